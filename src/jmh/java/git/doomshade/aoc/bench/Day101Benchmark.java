@@ -0,0 +1,10 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._101.Main;
+import git.doomshade.aoc.shared.InputSource;
+
+public class Day101Benchmark extends SolveBenchmark<InputSource> {
+    public Day101Benchmark() {
+        super(new Main(), InputScaling.REPEAT_LINES);
+    }
+}
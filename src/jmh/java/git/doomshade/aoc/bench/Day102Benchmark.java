@@ -0,0 +1,10 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._102.Main;
+import git.doomshade.aoc.shared.InputSource;
+
+public class Day102Benchmark extends SolveBenchmark<InputSource> {
+    public Day102Benchmark() {
+        super(new Main(), InputScaling.REPEAT_LINES);
+    }
+}
@@ -0,0 +1,11 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._111.Main;
+
+import java.util.List;
+
+public class Day111Benchmark extends DayBenchmark<List<Main.Monkey>> {
+    public Day111Benchmark() {
+        super(new Main(), InputScaling.REPEAT_BLOCKS);
+    }
+}
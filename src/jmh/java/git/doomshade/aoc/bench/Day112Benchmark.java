@@ -0,0 +1,11 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._112.Main;
+
+import java.util.List;
+
+public class Day112Benchmark extends DayBenchmark<List<Main.Monkey>> {
+    public Day112Benchmark() {
+        super(new Main(), InputScaling.REPEAT_BLOCKS);
+    }
+}
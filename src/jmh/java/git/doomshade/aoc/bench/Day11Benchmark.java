@@ -0,0 +1,11 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._11.Main;
+
+import java.nio.ByteBuffer;
+
+public class Day11Benchmark extends DayBenchmark<ByteBuffer> {
+    public Day11Benchmark() {
+        super(new Main(), InputScaling.REPEAT_BLOCKS);
+    }
+}
@@ -0,0 +1,10 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._121.HeightMap;
+import git.doomshade.aoc._121.Main;
+
+public class Day121Benchmark extends DayBenchmark<HeightMap> {
+    public Day121Benchmark() {
+        super(new Main(), InputScaling.TILE_GRID);
+    }
+}
@@ -0,0 +1,10 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._121.HeightMap;
+import git.doomshade.aoc._122.Main;
+
+public class Day122Benchmark extends DayBenchmark<HeightMap> {
+    public Day122Benchmark() {
+        super(new Main(), InputScaling.TILE_GRID);
+    }
+}
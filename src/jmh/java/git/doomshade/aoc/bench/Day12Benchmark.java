@@ -0,0 +1,11 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._12.Main;
+
+import java.nio.ByteBuffer;
+
+public class Day12Benchmark extends DayBenchmark<ByteBuffer> {
+    public Day12Benchmark() {
+        super(new Main(), InputScaling.REPEAT_BLOCKS);
+    }
+}
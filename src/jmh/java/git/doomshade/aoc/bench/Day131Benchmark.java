@@ -0,0 +1,11 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._131.Main;
+
+import java.util.List;
+
+public class Day131Benchmark extends DayBenchmark<List<String>> {
+    public Day131Benchmark() {
+        super(new Main(), InputScaling.REPEAT_BLOCKS);
+    }
+}
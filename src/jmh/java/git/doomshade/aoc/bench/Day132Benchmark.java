@@ -0,0 +1,11 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._132.Main;
+
+import java.util.List;
+
+public class Day132Benchmark extends DayBenchmark<List<String>> {
+    public Day132Benchmark() {
+        super(new Main(), InputScaling.REPEAT_BLOCKS);
+    }
+}
@@ -0,0 +1,11 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._141.Main;
+
+import java.util.List;
+
+public class Day141Benchmark extends DayBenchmark<List<List<Main.Point>>> {
+    public Day141Benchmark() {
+        super(new Main(), InputScaling.REPEAT_LINES);
+    }
+}
@@ -0,0 +1,11 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._142.Main;
+
+import java.util.List;
+
+public class Day142Benchmark extends DayBenchmark<List<List<Main.Point>>> {
+    public Day142Benchmark() {
+        super(new Main(), InputScaling.REPEAT_LINES);
+    }
+}
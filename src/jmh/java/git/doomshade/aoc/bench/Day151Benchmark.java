@@ -0,0 +1,10 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._151.Main;
+import git.doomshade.aoc.shared.InputSource;
+
+public class Day151Benchmark extends SolveBenchmark<InputSource> {
+    public Day151Benchmark() {
+        super(new Main(), InputScaling.REPEAT_LINES);
+    }
+}
@@ -0,0 +1,11 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._21.Main;
+
+import java.nio.ByteBuffer;
+
+public class Day21Benchmark extends DayBenchmark<ByteBuffer> {
+    public Day21Benchmark() {
+        super(new Main(), InputScaling.REPEAT_LINES);
+    }
+}
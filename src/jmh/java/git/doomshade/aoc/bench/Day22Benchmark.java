@@ -0,0 +1,11 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._22.Main;
+
+import java.nio.ByteBuffer;
+
+public class Day22Benchmark extends DayBenchmark<ByteBuffer> {
+    public Day22Benchmark() {
+        super(new Main(), InputScaling.REPEAT_LINES);
+    }
+}
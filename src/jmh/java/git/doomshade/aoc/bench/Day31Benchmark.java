@@ -0,0 +1,11 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._31.Main;
+
+import java.nio.ByteBuffer;
+
+public class Day31Benchmark extends DayBenchmark<ByteBuffer> {
+    public Day31Benchmark() {
+        super(new Main(), InputScaling.REPEAT_LINES);
+    }
+}
@@ -0,0 +1,11 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._32.Main;
+
+import java.nio.ByteBuffer;
+
+public class Day32Benchmark extends DayBenchmark<ByteBuffer> {
+    public Day32Benchmark() {
+        super(new Main(), InputScaling.REPEAT_LINES);
+    }
+}
@@ -0,0 +1,10 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._41.Main;
+import git.doomshade.aoc._41.RangePairs;
+
+public class Day41Benchmark extends DayBenchmark<RangePairs> {
+    public Day41Benchmark() {
+        super(new Main(), InputScaling.REPEAT_LINES);
+    }
+}
@@ -0,0 +1,10 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._41.RangePairs;
+import git.doomshade.aoc._42.Main;
+
+public class Day42Benchmark extends DayBenchmark<RangePairs> {
+    public Day42Benchmark() {
+        super(new Main(), InputScaling.REPEAT_LINES);
+    }
+}
@@ -0,0 +1,10 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._51.Main;
+import git.doomshade.aoc._51.RearrangementPlan;
+
+public class Day51Benchmark extends DayBenchmark<RearrangementPlan> {
+    public Day51Benchmark() {
+        super(new Main(), InputScaling.REPEAT_HEADER);
+    }
+}
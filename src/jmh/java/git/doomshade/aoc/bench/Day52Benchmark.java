@@ -0,0 +1,10 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._51.RearrangementPlan;
+import git.doomshade.aoc._52.Main;
+
+public class Day52Benchmark extends DayBenchmark<RearrangementPlan> {
+    public Day52Benchmark() {
+        super(new Main(), InputScaling.REPEAT_HEADER);
+    }
+}
@@ -0,0 +1,10 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._61.Main;
+import git.doomshade.aoc.shared.InputSource;
+
+public class Day61Benchmark extends SolveBenchmark<InputSource> {
+    public Day61Benchmark() {
+        super(new Main(), InputScaling.DELAYED_MARKER);
+    }
+}
@@ -0,0 +1,10 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._62.Main;
+import git.doomshade.aoc.shared.InputSource;
+
+public class Day62Benchmark extends SolveBenchmark<InputSource> {
+    public Day62Benchmark() {
+        super(new Main(), InputScaling.DELAYED_MARKER);
+    }
+}
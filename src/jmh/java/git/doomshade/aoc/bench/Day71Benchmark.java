@@ -0,0 +1,10 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._71.DirectoryQuery;
+import git.doomshade.aoc._71.Main;
+
+public class Day71Benchmark extends DayBenchmark<DirectoryQuery> {
+    public Day71Benchmark() {
+        super(new Main(), InputScaling.NEST_COPIES);
+    }
+}
@@ -0,0 +1,10 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._71.DirectoryQuery;
+import git.doomshade.aoc._72.Main;
+
+public class Day72Benchmark extends DayBenchmark<DirectoryQuery> {
+    public Day72Benchmark() {
+        super(new Main(), InputScaling.NEST_COPIES);
+    }
+}
@@ -0,0 +1,10 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._81.Forest;
+import git.doomshade.aoc._81.Main;
+
+public class Day81Benchmark extends DayBenchmark<Forest> {
+    public Day81Benchmark() {
+        super(new Main(), InputScaling.TILE_GRID);
+    }
+}
@@ -0,0 +1,10 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._81.Forest;
+import git.doomshade.aoc._82.Main;
+
+public class Day82Benchmark extends DayBenchmark<Forest> {
+    public Day82Benchmark() {
+        super(new Main(), InputScaling.TILE_GRID);
+    }
+}
@@ -0,0 +1,10 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._91.Main;
+import git.doomshade.aoc.shared.InputSource;
+
+public class Day91Benchmark extends SolveBenchmark<InputSource> {
+    public Day91Benchmark() {
+        super(new Main(), InputScaling.REPEAT_LINES);
+    }
+}
@@ -0,0 +1,10 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc._92.Main;
+import git.doomshade.aoc.shared.InputSource;
+
+public class Day92Benchmark extends SolveBenchmark<InputSource> {
+    public Day92Benchmark() {
+        super(new Main(), InputScaling.REPEAT_LINES);
+    }
+}
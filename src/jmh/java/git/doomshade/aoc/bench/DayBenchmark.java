@@ -0,0 +1,25 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc.shared.Solver;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.io.IOException;
+
+/**
+ * Base of the benchmarks of the days that parse their input before solving it, measures the parse phase besides the solve phase.
+ *
+ * @param <I> the parsed input of the solver
+ */
+public abstract class DayBenchmark<I> extends SolveBenchmark<I> {
+    protected DayBenchmark(final Solver<I, ?> solver, final InputScaling scaling) {
+        super(solver, scaling);
+        if (solver.streaming()) {
+            throw new IllegalArgumentException("Day " + solver.day() + " streams its input, its benchmark has nothing to parse");
+        }
+    }
+
+    @Benchmark
+    public I parse() throws IOException {
+        return solver.parse(input);
+    }
+}
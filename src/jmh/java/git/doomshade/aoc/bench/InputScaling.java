@@ -0,0 +1,115 @@
+package git.doomshade.aoc.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Strategies for blowing up a bundled puzzle input into a larger one that the same solver still accepts.
+ */
+public enum InputScaling {
+    /**
+     * Lines are independent of each other, the whole file is repeated.
+     */
+    REPEAT_LINES {
+        @Override
+        public List<String> scale(final List<String> lines, final int factor) {
+            final List<String> result = new ArrayList<>(lines.size() * factor);
+            for (int i = 0; i < factor; i++) {
+                result.addAll(lines);
+            }
+            return result;
+        }
+    },
+    /**
+     * The input consists of blocks separated by a blank line, the copies are separated by a blank line as well.
+     */
+    REPEAT_BLOCKS {
+        @Override
+        public List<String> scale(final List<String> lines, final int factor) {
+            final List<String> result = new ArrayList<>((lines.size() + 1) * factor);
+            for (int i = 0; i < factor; i++) {
+                result.addAll(lines);
+                if (lines.isEmpty() || !lines.get(lines.size() - 1).isEmpty()) {
+                    result.add("");
+                }
+            }
+            return result;
+        }
+    },
+    /**
+     * Day 6 layout: the single line is preceded by {@code factor - 1} line lengths of its first letter. The run of one letter has no marker, so
+     * the first marker ends {@code factor} times further into the stream and the scan does {@code factor} times the work. Concatenating the
+     * line with itself would leave the first marker where it was.
+     */
+    DELAYED_MARKER {
+        @Override
+        public List<String> scale(final List<String> lines, final int factor) {
+            final String line = lines.get(0);
+            return List.of(String.valueOf(line.charAt(0))
+                                 .repeat((factor - 1) * line.length()) + line);
+        }
+    },
+    /**
+     * Day 7 layout: the root gets a new directory for every copy and each copy of the transcript is replayed inside its own directory, every
+     * {@code $ cd /} is followed by a {@code cd} into it. The copies add new directories and files instead of listing the existing ones
+     * again, which the replay ignores.
+     */
+    NEST_COPIES {
+        @Override
+        public List<String> scale(final List<String> lines, final int factor) {
+            final List<String> result = new ArrayList<>((lines.size() + 2) * factor + 2);
+            result.add("$ cd /");
+            result.add("$ ls");
+            for (int i = 0; i < factor; i++) {
+                result.add("dir copy" + i);
+            }
+            for (int i = 0; i < factor; i++) {
+                for (String line : lines) {
+                    result.add(line);
+                    if (line.equals("$ cd /")) {
+                        result.add("$ cd copy" + i);
+                    }
+                }
+            }
+            return result;
+        }
+    },
+    /**
+     * The input is a rectangular grid, it is tiled {@code round(sqrt(factor))} times in both directions. The grid grows by the square of
+     * that, which equals the factor only for perfect squares: the scales 10, 100 and 1000 give 9, 100 and 1024 times the cells.
+     */
+    TILE_GRID {
+        @Override
+        public List<String> scale(final List<String> lines, final int factor) {
+            final int tiles = Math.max(1, (int) Math.round(Math.sqrt(factor)));
+            final List<String> result = new ArrayList<>(lines.size() * tiles);
+            for (int i = 0; i < tiles; i++) {
+                for (String line : lines) {
+                    result.add(line.repeat(tiles));
+                }
+            }
+            return result;
+        }
+    },
+    /**
+     * Day 5 layout: the crate drawing is repeated so the stacks get taller, the numbering and the moves stay as they are.
+     */
+    REPEAT_HEADER {
+        @Override
+        public List<String> scale(final List<String> lines, final int factor) {
+            int headerEnd = 0;
+            while (headerEnd < lines.size() && !lines.get(headerEnd).isEmpty() && !lines.get(headerEnd).contains("1")) {
+                headerEnd++;
+            }
+            final List<String> header = lines.subList(0, headerEnd);
+            final List<String> result = new ArrayList<>(header.size() * factor + lines.size());
+            for (int i = 0; i < factor; i++) {
+                result.addAll(header);
+            }
+            result.addAll(lines.subList(headerEnd, lines.size()));
+            return result;
+        }
+    };
+
+    public abstract List<String> scale(List<String> lines, int factor);
+}
@@ -0,0 +1,83 @@
+package git.doomshade.aoc.bench;
+
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.Solver;
+import git.doomshade.aoc.shared.Util;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Base of the per-day benchmarks, measures the solve phase. Every trial generates the day's input scaled by {@link #scale} into a temporary directory and points
+ * {@link Util#INPUT_DIR_PROPERTY} at it, so the solver reads the generated file instead of the bundled one. Standard output is discarded while
+ * the benchmark runs.
+ * <p>{@link Solver#streaming() Streaming} solvers read their input in the solve phase, their benchmarks extend this class directly. The
+ * others extend {@link DayBenchmark}, which measures the parse phase as well.</p>
+ *
+ * @param <I> the parsed input of the solver
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class SolveBenchmark<I> {
+    @Param({"1", "10", "100", "1000"})
+    public int scale;
+
+    protected final Solver<I, ?> solver;
+    private final InputScaling scaling;
+
+    private Path inputDir;
+    private PrintStream stdout;
+    protected InputSource input;
+    private I parsed;
+
+    protected SolveBenchmark(final Solver<I, ?> solver, final InputScaling scaling) {
+        this.solver = solver;
+        this.scaling = scaling;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        stdout = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        final List<String> bundled = solver.defaultInput()
+                                           .readLines();
+        inputDir = Files.createTempDirectory("aoc-jmh");
+        System.setProperty(Util.INPUT_DIR_PROPERTY, inputDir.toString());
+        final Path inputFile = Util.getInputOverride(solver.getClass(), Solver.DEFAULT_INPUT);
+        Files.createDirectories(inputFile.getParent());
+        Files.write(inputFile, scaling.scale(bundled, scale));
+
+        input = solver.defaultInput();
+        parsed = solver.parse(input);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        System.clearProperty(Util.INPUT_DIR_PROPERTY);
+        System.setOut(stdout);
+        try (Stream<Path> files = Files.walk(inputDir)) {
+            for (Path path : files.sorted(Comparator.reverseOrder())
+                                  .toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public Object solve() {
+        return solver.solve(parsed);
+    }
+}
@@ -1,9 +1,11 @@
 package git.doomshade.aoc._101;
 
-import git.doomshade.aoc.shared.Util;
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.Solver;
+import git.doomshade.aoc.shared.parse.AsciiScanner;
+import git.doomshade.aoc.shared.parse.LineReader;
 
 import java.io.IOException;
-import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
@@ -208,13 +210,16 @@ import java.util.function.Predicate;
  * <p>The sum of these signal strengths is <code><em>13140</em></code>.</p>
  * <p>Find the signal strength during the 20th, 60th, 100th, 140th, 180th, and 220th cycles. <em>What is the sum of these six signal strengths?</em></p>
  */
-public class Main implements Runnable {
+public class Main implements Solver<InputSource, Integer> {
     private enum CPUInstruction {
         NOOP((regX, value) -> regX.get(), 1),
         ADDX(AtomicInteger::addAndGet, 2);
 
+        private static final CPUInstruction[] VALUES = values();
+
         private final BiFunction<AtomicInteger, Integer, Integer> intFunction;
         private final int cycleCount;
+        private final byte[] token = AsciiScanner.token(name().toLowerCase());
 
         CPUInstruction(final BiFunction<AtomicInteger, Integer, Integer> intFunction, final int cycleCount) {
             this.intFunction = intFunction;
@@ -224,6 +229,15 @@ public class Main implements Runnable {
         public void applyInstruction(final AtomicInteger regX, final int value) {
             intFunction.apply(regX, value);
         }
+
+        private static CPUInstruction read(final AsciiScanner scanner) {
+            for (CPUInstruction instruction : VALUES) {
+                if (scanner.tryMatch(instruction.token)) {
+                    return instruction;
+                }
+            }
+            throw new IllegalStateException("Unknown instruction at " + scanner.position());
+        }
     }
 
     private static class VirtualCPU {
@@ -247,23 +261,33 @@ public class Main implements Runnable {
     }
 
     @Override
-    public void run() {
-        try {
-            final List<String> input = Util.readStringInput(getClass(), "input.txt");
+    public InputSource parse(final InputSource input) {
+        return input;
+    }
+
+    @Override
+    public boolean streaming() {
+        return true;
+    }
+
+    @Override
+    public Integer solve(final InputSource input) {
+        try (LineReader line = input.lines()) {
             final AtomicInteger regX = new AtomicInteger(1);
             final VirtualCPU cpu = new VirtualCPU();
 
-            for (String s : input) {
-                final String[] split = s.split(" ");
-                final CPUInstruction cpuInstruction = CPUInstruction.valueOf(split[0].toUpperCase());
+            final AsciiScanner scanner = new AsciiScanner();
+            while (line.next()) {
+                final CPUInstruction cpuInstruction = CPUInstruction.read(scanner.reset(line));
                 final int value = switch (cpuInstruction) {
-                    case ADDX -> Integer.parseInt(split[1]);
+                    case ADDX -> scanner.expect((byte) ' ')
+                                        .readInt();
                     case NOOP -> 0;
                 };
 
                 cpu.pushInstruction(cpuInstruction, regX, value);
             }
-            System.out.println(cpu.totalSignalStrength);
+            return cpu.totalSignalStrength;
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -1,9 +1,11 @@
 package git.doomshade.aoc._102;
 
-import git.doomshade.aoc.shared.Util;
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.Solver;
+import git.doomshade.aoc.shared.parse.AsciiScanner;
+import git.doomshade.aoc.shared.parse.LineReader;
 
 import java.io.IOException;
-import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
@@ -140,13 +142,16 @@ import java.util.function.Predicate;
  * </code></pre>
  * <p>Render the image given by your program. <em>What eight capital letters appear on your CRT?</em></p>
  */
-public class Main implements Runnable {
+public class Main implements Solver<InputSource, String> {
     private enum CPUInstruction {
         NOOP((regX, value) -> regX.get(), 1),
         ADDX(AtomicInteger::addAndGet, 2);
 
+        private static final CPUInstruction[] VALUES = values();
+
         private final BiFunction<AtomicInteger, Integer, Integer> intFunction;
         private final int cycleCount;
+        private final byte[] token = AsciiScanner.token(name().toLowerCase());
 
         CPUInstruction(final BiFunction<AtomicInteger, Integer, Integer> intFunction, final int cycleCount) {
             this.intFunction = intFunction;
@@ -156,9 +161,19 @@ public class Main implements Runnable {
         public void applyInstruction(final AtomicInteger regX, final int value) {
             intFunction.apply(regX, value);
         }
+
+        private static CPUInstruction read(final AsciiScanner scanner) {
+            for (CPUInstruction instruction : VALUES) {
+                if (scanner.tryMatch(instruction.token)) {
+                    return instruction;
+                }
+            }
+            throw new IllegalStateException("Unknown instruction at " + scanner.position());
+        }
     }
 
     private static class VirtualCPU {
+        private final StringBuilder screen = new StringBuilder();
         private int cycle = 0;
 
         public void pushInstruction(final CPUInstruction instruction, final AtomicInteger regX, final int value) {
@@ -173,31 +188,42 @@ public class Main implements Runnable {
             final int cyclePosition = cycle % 40;
             final int spritePosition = regX.get();
             if (cycle != 0 && cyclePosition == 0) {
-                System.out.println();
+                screen.append(System.lineSeparator());
             }
-            final String pixel = cyclePosition <= spritePosition + 1 && cyclePosition >= spritePosition - 1 ? "#" : ".";
-            System.out.print(pixel);
+            final char pixel = cyclePosition <= spritePosition + 1 && cyclePosition >= spritePosition - 1 ? '#' : '.';
+            screen.append(pixel);
         }
 
     }
 
     @Override
-    public void run() {
-        try {
-            final List<String> input = Util.readStringInput(getClass(), "input.txt");
+    public InputSource parse(final InputSource input) {
+        return input;
+    }
+
+    @Override
+    public boolean streaming() {
+        return true;
+    }
+
+    @Override
+    public String solve(final InputSource input) {
+        try (LineReader line = input.lines()) {
             final AtomicInteger regX = new AtomicInteger(1);
             final VirtualCPU cpu = new VirtualCPU();
 
-            for (String s : input) {
-                final String[] split = s.split(" ");
-                final CPUInstruction cpuInstruction = CPUInstruction.valueOf(split[0].toUpperCase());
+            final AsciiScanner scanner = new AsciiScanner();
+            while (line.next()) {
+                final CPUInstruction cpuInstruction = CPUInstruction.read(scanner.reset(line));
                 final int value = switch (cpuInstruction) {
-                    case ADDX -> Integer.parseInt(split[1]);
+                    case ADDX -> scanner.expect((byte) ' ')
+                                        .readInt();
                     case NOOP -> 0;
                 };
 
                 cpu.pushInstruction(cpuInstruction, regX, value);
             }
+            return cpu.screen.toString();
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
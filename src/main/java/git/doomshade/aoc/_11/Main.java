@@ -1,9 +1,14 @@
 package git.doomshade.aoc._11;
 
-import git.doomshade.aoc.shared.Util;
+import git.doomshade.aoc.shared.ChunkedReducer;
+import git.doomshade.aoc.shared.ChunkedReducer.Boundary;
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.Solver;
+import git.doomshade.aoc.shared.parse.AsciiScanner;
+import git.doomshade.aoc.shared.parse.LineCursor;
 
 import java.io.IOException;
-import java.util.List;
+import java.nio.ByteBuffer;
 
 /**
  * <h2>--- Day 1: Calorie Counting ---</h2><p>Santa's reindeer typically eat regular reindeer food, but they need a lot of <a href="/2018/day/25">magical energy</a>
@@ -48,24 +53,32 @@ import java.util.List;
  * the <em>most</em> Calories. In the example above, this is <em><code>24000</code></em> (carried by the fourth Elf).</p>
  * <p>Find the Elf carrying the most Calories. <em>How many total Calories is that Elf carrying?</em></p>
  */
-public class Main implements Runnable {
-    @Override
-    public void run() {
-        try {
-            final List<String> input = Util.readStringInput(getClass(), "input.txt");
-            int max = -1;
-            int result = 0;
-            for (String s : input) {
-                if (s.isEmpty()) {
-                    max = Math.max(max, result);
-                    result = 0;
-                } else {
-                    result += Integer.parseInt(s);
-                }
+public class Main implements Solver<ByteBuffer, Integer> {
+    private static final ChunkedReducer<Integer> MAX_CALORIES = new ChunkedReducer<>(Boundary.BLANK_LINE, Main::maxCalories, Math::max);
+
+    private static int maxCalories(final LineCursor line) {
+        final AsciiScanner scanner = new AsciiScanner();
+        int max = -1;
+        int result = 0;
+        while (line.next()) {
+            if (line.isEmpty()) {
+                max = Math.max(max, result);
+                result = 0;
+            } else {
+                result += scanner.reset(line)
+                                 .readInt();
             }
-            System.out.println(max);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
         }
+        return Math.max(max, result);
+    }
+
+    @Override
+    public ByteBuffer parse(final InputSource input) throws IOException {
+        return input.loadedBuffer();
+    }
+
+    @Override
+    public Integer solve(final ByteBuffer input) {
+        return MAX_CALORIES.reduce(input);
     }
 }
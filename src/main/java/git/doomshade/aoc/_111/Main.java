@@ -1,6 +1,7 @@
 package git.doomshade.aoc._111;
 
-import git.doomshade.aoc.shared.Util;
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.Solver;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -237,24 +238,33 @@ import java.util.regex.Pattern;
  * <p>Figure out which monkeys to chase by counting how many items they inspect over 20 rounds. <em>What is the level of monkey business after 20 rounds of stuff-slinging
  * simian shenanigans?</em></p>
  */
-public class Main implements Runnable {
+public class Main implements Solver<List<Main.Monkey>, Long> {
     private static final String MSG_DIVISIBLE_FORMAT = "\t\tCurrent worry level is %sdivisible by %d.%n";
 
-    private static class Monkey {
+    public static class Monkey {
         /**
          * First value is old. Second value is a number or old.
          */
         private final IntUnaryOperator worryOperation;
         private final IntUnaryOperator worryTest;
+        private final List<Integer> startingItems;
         private int inspectedItemCount = 0;
         private final Deque<Integer> items = new LinkedList<>();
 
         private Monkey(final Collection<Integer> startingItems, final IntUnaryOperator worryOperation, final IntUnaryOperator worryTest) {
             this.worryOperation = worryOperation;
             this.worryTest = worryTest;
+            this.startingItems = List.copyOf(startingItems);
             this.items.addAll(startingItems);
         }
 
+        /**
+         * @return a fresh monkey holding the starting items, so that the parsed monkeys can be simulated repeatedly
+         */
+        private Monkey copy() {
+            return new Monkey(startingItems, worryOperation, worryTest);
+        }
+
         public void takeTurn(List<Monkey> monkeys) {
             while (!items.isEmpty()) {
                 // inspect item
@@ -376,39 +386,47 @@ public class Main implements Runnable {
     }
 
     @Override
-    public void run() {
-        try {
-            final String input = String.join("\n", Util.readStringInput(getClass(), "input.txt"));
-            final BufferedReader reader = new BufferedReader(new StringReader(input));
-            final List<Monkey> monkeys = new ArrayList<>();
+    public List<Monkey> parse(final InputSource input) throws IOException {
+        final String joinedInput = String.join("\n", input.readLines());
+        final BufferedReader reader = new BufferedReader(new StringReader(joinedInput));
+        final List<Monkey> monkeys = new ArrayList<>();
 
-            while (true) {
-                final Optional<Monkey> monkey = parseMonkey(reader);
-                if (monkey.isPresent()) {
-                    monkeys.add(monkey.get());
-                } else {
-                    break;
-                }
+        while (true) {
+            final Optional<Monkey> monkey = parseMonkey(reader);
+            if (monkey.isPresent()) {
+                monkeys.add(monkey.get());
+            } else {
+                break;
             }
+        }
+        return monkeys;
+    }
 
-            for (int i = 0; i < 20; i++) {
-                for (int j = 0; j < monkeys.size(); j++) {
-                    final Monkey monkey = monkeys.get(j);
-                    System.out.printf("Monkey %d:%n", j);
-                    monkey.takeTurn(monkeys);
-                }
-            }
-            for (int j = 0; j < monkeys.size(); j++) {
-                final Monkey monkey = monkeys.get(j);
-                System.out.printf("Monkey %d: %s%n", j, monkey.items);
-            }
+    @Override
+    public Long solve(final List<Monkey> input) {
+        final List<Monkey> monkeys = input.stream()
+                                          .map(Monkey::copy)
+                                          .toList();
+        for (int i = 0; i < 20; i++) {
             for (int j = 0; j < monkeys.size(); j++) {
                 final Monkey monkey = monkeys.get(j);
-                System.out.printf("Monkey %d inspected items %d times%n", j, monkey.inspectedItemCount);
+                System.out.printf("Monkey %d:%n", j);
+                monkey.takeTurn(monkeys);
             }
-
-        } catch (IOException e) {
-            throw new RuntimeException(e);
         }
+        for (int j = 0; j < monkeys.size(); j++) {
+            final Monkey monkey = monkeys.get(j);
+            System.out.printf("Monkey %d: %s%n", j, monkey.items);
+        }
+        for (int j = 0; j < monkeys.size(); j++) {
+            final Monkey monkey = monkeys.get(j);
+            System.out.printf("Monkey %d inspected items %d times%n", j, monkey.inspectedItemCount);
+        }
+
+        final long[] inspectedItemCounts = monkeys.stream()
+                                                  .mapToLong(monkey -> monkey.inspectedItemCount)
+                                                  .sorted()
+                                                  .toArray();
+        return inspectedItemCounts[inspectedItemCounts.length - 1] * inspectedItemCounts[inspectedItemCounts.length - 2];
     }
 }
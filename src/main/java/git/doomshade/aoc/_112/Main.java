@@ -1,6 +1,7 @@
 package git.doomshade.aoc._112;
 
-import git.doomshade.aoc.shared.Util;
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.Solver;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -98,24 +99,33 @@ import java.util.regex.Pattern;
  * <p>Worry levels are no longer divided by three after each item is inspected; you'll need to find another way to keep your worry levels manageable. Starting again from
  * the initial state in your puzzle input, <em>what is the level of monkey business after 10000 rounds?</em></p>
  */
-public class Main implements Runnable {
+public class Main implements Solver<List<Main.Monkey>, Long> {
     private static final String MSG_DIVISIBLE_FORMAT = "\t\tCurrent worry level is %sdivisible by %d.%n";
 
-    private static class Monkey {
+    public static class Monkey {
         /**
          * First value is old. Second value is a number or old.
          */
         private final UnaryOperator<BigInteger> worryOperation;
         private final Function<BigInteger, Integer> worryTest;
+        private final List<BigInteger> startingItems;
         private int inspectedItemCount = 0;
         private final Deque<BigInteger> items = new LinkedList<>();
 
         private Monkey(final Collection<BigInteger> startingItems, final UnaryOperator<BigInteger> worryOperation, final Function<BigInteger, Integer> worryTest) {
             this.worryOperation = worryOperation;
             this.worryTest = worryTest;
+            this.startingItems = List.copyOf(startingItems);
             this.items.addAll(startingItems);
         }
 
+        /**
+         * @return a fresh monkey holding the starting items, so that the parsed monkeys can be simulated repeatedly
+         */
+        private Monkey copy() {
+            return new Monkey(startingItems, worryOperation, worryTest);
+        }
+
         public void takeTurn(List<Monkey> monkeys) {
             while (!items.isEmpty()) {
                 // inspect item
@@ -244,40 +254,45 @@ public class Main implements Runnable {
     }
 
     @Override
-    public void run() {
-        try {
-            final String input = String.join("\n", Util.readStringInput(getClass(), "input.txt"));
-            final BufferedReader reader = new BufferedReader(new StringReader(input));
-            final List<Monkey> monkeys = new ArrayList<>();
+    public List<Monkey> parse(final InputSource input) throws IOException {
+        final String joinedInput = String.join("\n", input.readLines());
+        final BufferedReader reader = new BufferedReader(new StringReader(joinedInput));
+        final List<Monkey> monkeys = new ArrayList<>();
+        modulo = BigInteger.ONE;
 
-            while (true) {
-                final Optional<Monkey> monkey = parseMonkey(reader);
-                if (monkey.isPresent()) {
-                    monkeys.add(monkey.get());
-                } else {
-                    break;
-                }
+        while (true) {
+            final Optional<Monkey> monkey = parseMonkey(reader);
+            if (monkey.isPresent()) {
+                monkeys.add(monkey.get());
+            } else {
+                break;
             }
+        }
+        return monkeys;
+    }
 
-            for (int i = 0; i < 10_000; i++) {
-                for (int j = 0; j < monkeys.size(); j++) {
-                    final Monkey monkey = monkeys.get(j);
-//                    System.out.printf("Monkey %d:%n", j);
-                    monkey.takeTurn(monkeys);
-                }
+    @Override
+    public Long solve(final List<Monkey> input) {
+        final List<Monkey> monkeys = new ArrayList<>(input.size());
+        for (Monkey monkey : input) {
+            monkeys.add(monkey.copy());
+        }
 
-            }
-            monkeys.sort(Comparator.comparingInt(a -> -a.inspectedItemCount));
+        for (int i = 0; i < 10_000; i++) {
             for (int j = 0; j < monkeys.size(); j++) {
                 final Monkey monkey = monkeys.get(j);
-                System.out.printf("Monkey %d inspected items %d times%n", j, monkey.inspectedItemCount);
+//                System.out.printf("Monkey %d:%n", j);
+                monkey.takeTurn(monkeys);
             }
-            final long a = monkeys.get(0).inspectedItemCount;
-            final long b = monkeys.get(1).inspectedItemCount;
-            System.out.printf("%d * %d = %d", a, b, a * b);
 
-        } catch (IOException e) {
-            throw new RuntimeException(e);
         }
+        monkeys.sort(Comparator.comparingInt(a -> -a.inspectedItemCount));
+        for (int j = 0; j < monkeys.size(); j++) {
+            final Monkey monkey = monkeys.get(j);
+            System.out.printf("Monkey %d inspected items %d times%n", j, monkey.inspectedItemCount);
+        }
+        final long a = monkeys.get(0).inspectedItemCount;
+        final long b = monkeys.get(1).inspectedItemCount;
+        return a * b;
     }
 }
@@ -1,9 +1,15 @@
 package git.doomshade.aoc._12;
 
-import git.doomshade.aoc.shared.Util;
+import git.doomshade.aoc.shared.ChunkedReducer;
+import git.doomshade.aoc.shared.ChunkedReducer.Boundary;
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.Solver;
+import git.doomshade.aoc.shared.TopK;
+import git.doomshade.aoc.shared.parse.AsciiScanner;
+import git.doomshade.aoc.shared.parse.LineCursor;
 
 import java.io.IOException;
-import java.util.*;
+import java.nio.ByteBuffer;
 
 /**
  * <h2 id="part2">--- Part Two ---</h2><p>By the time you calculate the answer to the Elves' question, they've already realized that the Elf carrying the most Calories of
@@ -14,28 +20,35 @@ import java.util.*;
  * Elf (with <code>10000</code> Calories). The sum of the Calories carried by these three elves is <code><em>45000</em></code>.</p>
  * <p>Find the top three Elves carrying the most Calories. <em>How many Calories are those Elves carrying in total?</em></p>
  */
-public class Main implements Runnable {
-    @Override
-    public void run() {
-        try {
-            final List<String> input = Util.readStringInput(getClass(), "input.txt");
-            final PriorityQueue<Integer> results = new PriorityQueue<>(Comparator.reverseOrder());
-            int curr = 0;
-            for (String s : input) {
-                if (s.isEmpty()) {
-                    results.offer(curr);
-                    curr = 0;
-                } else {
-                    curr += Integer.parseInt(s);
-                }
-            }
-            int res = 0;
-            for (int i = 0; i < 3; i++) {
-                res += results.poll();
+public class Main implements Solver<ByteBuffer, Integer> {
+    private static final int TOP_ELVES = 3;
+    private static final ChunkedReducer<TopK> TOP_CALORIES = new ChunkedReducer<>(Boundary.BLANK_LINE, Main::topCalories, TopK::merge);
+
+    private static TopK topCalories(final LineCursor line) {
+        final AsciiScanner scanner = new AsciiScanner();
+        final TopK top = new TopK(TOP_ELVES);
+        int curr = 0;
+        while (line.next()) {
+            if (line.isEmpty()) {
+                top.offer(curr);
+                curr = 0;
+            } else {
+                curr += scanner.reset(line)
+                               .readInt();
             }
-            System.out.println(res);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
         }
+        top.offer(curr);
+        return top;
+    }
+
+    @Override
+    public ByteBuffer parse(final InputSource input) throws IOException {
+        return input.loadedBuffer();
+    }
+
+    @Override
+    public Integer solve(final ByteBuffer input) {
+        return (int) TOP_CALORIES.reduce(input)
+                                 .sum();
     }
 }
@@ -0,0 +1,106 @@
+package git.doomshade.aoc._121;
+
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.grid.ByteGrid;
+import git.doomshade.aoc.shared.grid.Grid;
+import git.doomshade.aoc.shared.grid.IntGrid;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The elevations of the day 12 heightmap in a {@link ByteGrid} padded by one cell that is too high to be climbed, so the neighbours of every
+ * square can be tried without checking the bounds. Shared by both parts.
+ */
+public final class HeightMap {
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private static final byte LOWEST = 'a';
+    private static final byte HIGHEST = 'z';
+    // higher than any square can climb to
+    private static final byte WALL = Byte.MAX_VALUE;
+
+    private final ByteGrid elevations;
+    private final int start;
+    private final int end;
+
+    private HeightMap(final ByteGrid elevations, final int start, final int end) {
+        this.elevations = elevations;
+        this.start = start;
+        this.end = end;
+    }
+
+    public static HeightMap parse(final InputSource input) throws IOException {
+        final ByteGrid elevations = ByteGrid.parse(input, 1, WALL);
+        final int start = elevations.indexOf((byte) 'S');
+        final int end = elevations.indexOf((byte) 'E');
+        if (start < 0 || end < 0) {
+            throw new IllegalStateException("The heightmap has no start or no end");
+        }
+        elevations.set(start, LOWEST);
+        elevations.set(end, HIGHEST);
+        return new HeightMap(elevations, start, end);
+    }
+
+    /**
+     * @return the index of the current position
+     */
+    public int start() {
+        return start;
+    }
+
+    /**
+     * @return the indices of all the squares of the lowest elevation, including the current position
+     */
+    public int[] lowestSquares() {
+        int count = 0;
+        final int[] squares = new int[elevations.rows() * elevations.cols()];
+        for (int row = 0; row < elevations.rows(); row++) {
+            for (int col = 0; col < elevations.cols(); col++) {
+                final int index = elevations.index(row, col);
+                if (elevations.get(index) == LOWEST) {
+                    squares[count++] = index;
+                }
+            }
+        }
+        return Arrays.copyOf(squares, count);
+    }
+
+    /**
+     * Searches breadth-first from all the starting squares at once, a step may climb at most one elevation higher.
+     *
+     * @param starts the indices of the starting squares
+     *
+     * @return the fewest steps from any of the starting squares to the best signal, or {@link #UNREACHABLE}
+     */
+    public int fewestSteps(final int... starts) {
+        final IntGrid steps = IntGrid.shaped(elevations);
+        steps.fill(UNREACHABLE);
+        final int[] queue = new int[elevations.rows() * elevations.cols()];
+        int head = 0;
+        int tail = 0;
+        for (final int square : starts) {
+            if (steps.get(square) == UNREACHABLE) {
+                steps.set(square, 0);
+                queue[tail++] = square;
+            }
+        }
+
+        while (head < tail) {
+            final int square = queue[head++];
+            if (square == end) {
+                return steps.get(square);
+            }
+            final int maxElevation = elevations.get(square) + 1;
+            final int next = steps.get(square) + 1;
+            for (int direction = 0; direction < Grid.DIRECTIONS; direction++) {
+                final int neighbour = elevations.neighbour(square, direction);
+                if (elevations.get(neighbour) <= maxElevation && steps.get(neighbour) == UNREACHABLE) {
+                    steps.set(neighbour, next);
+                    queue[tail++] = neighbour;
+                }
+            }
+        }
+        return UNREACHABLE;
+    }
+}
@@ -1,6 +1,7 @@
 package git.doomshade.aoc._131;
 
-import git.doomshade.aoc.shared.Util;
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.Solver;
 
 import java.io.IOException;
 import java.text.CharacterIterator;
@@ -127,7 +128,7 @@ import java.util.stream.Collectors;
  * example, the pairs in the right order are 1, 2, 4, and 6; the sum of these indices is <code><em>13</em></code>.</p>
  * <p>Determine which pairs of packets are already in the right order. <em>What is the sum of the indices of those pairs?</em></p>
  */
-public class Main implements Runnable {
+public class Main implements Solver<List<String>, Integer> {
 
     private static class Data {
         private final Integer value;
@@ -313,28 +314,28 @@ public class Main implements Runnable {
     }
 
     @Override
-    public void run() {
-        try {
-            final List<String> input = Util.readStringInput(getClass(), "input.txt");
-            final List<PacketPair> packetPairs = new ArrayList<>();
-            for (int i = 0; i < input.size(); i += 3) {
-                final DataArray firstPacket = parseDataArray(input.get(i));
-                final DataArray secondPacket = parseDataArray(input.get(i + 1));
-                packetPairs.add(new PacketPair(firstPacket, secondPacket));
-            }
+    public List<String> parse(final InputSource input) throws IOException {
+        return input.readLines();
+    }
 
-            int result = 0;
-            for (int i = 0; i < packetPairs.size(); i++) {
-                final PacketPair packetPair = packetPairs.get(i);
-                System.out.printf("%n== Pair %d ==%n", i + 1);
-                if (packetPair.comparePackets()) {
-                    result += i + 1;
-                }
-            }
+    @Override
+    public Integer solve(final List<String> input) {
+        final List<PacketPair> packetPairs = new ArrayList<>();
+        for (int i = 0; i < input.size(); i += 3) {
+            final DataArray firstPacket = parseDataArray(input.get(i));
+            final DataArray secondPacket = parseDataArray(input.get(i + 1));
+            packetPairs.add(new PacketPair(firstPacket, secondPacket));
+        }
 
-            System.out.println(result);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        int result = 0;
+        for (int i = 0; i < packetPairs.size(); i++) {
+            final PacketPair packetPair = packetPairs.get(i);
+            System.out.printf("%n== Pair %d ==%n", i + 1);
+            if (packetPair.comparePackets()) {
+                result += i + 1;
+            }
         }
+
+        return result;
     }
 }
@@ -1,6 +1,7 @@
 package git.doomshade.aoc._132;
 
-import git.doomshade.aoc.shared.Util;
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.Solver;
 
 import java.io.IOException;
 import java.text.CharacterIterator;
@@ -45,7 +46,7 @@ import java.util.stream.Collectors;
  * <em>14th</em>, and so the decoder key is <code><em>140</em></code>.</p>
  * <p>Organize all of the packets into the correct order. <em>What is the decoder key for the distress signal?</em></p>
  */
-public class Main implements Runnable {
+public class Main implements Solver<List<String>, Integer> {
 
     private static class Data {
         private final Integer value;
@@ -230,32 +231,32 @@ public class Main implements Runnable {
     }
 
     @Override
-    public void run() {
-        try {
-            final List<String> input = Util.readStringInput(getClass(), "input.txt");
-            final List<PacketPair> packetPairs = new ArrayList<>();
-            for (int i = 0; i < input.size(); i += 3) {
-                final DataArray firstPacket = parseDataArray(input.get(i));
-                final DataArray secondPacket = parseDataArray(input.get(i + 1));
-                packetPairs.add(new PacketPair(firstPacket, secondPacket));
-            }
+    public List<String> parse(final InputSource input) throws IOException {
+        return input.readLines();
+    }
 
-            final List<DataArray> packets = packetPairs.stream()
-                                                       .collect(ArrayList::new, (list, packetPair) -> {
-                                                           list.add(packetPair.left);
-                                                           list.add(packetPair.right);
-                                                       }, ArrayList::addAll);
-            final DataArray first = getDividerPacket(2);
-            final DataArray second = getDividerPacket(6);
-            packets.add(first);
-            packets.add(second);
-            packets.sort(Main::compareDataArrays);
-            final int firstPacketIndex = packets.indexOf(first) + 1;
-            final int secondPacketIndex = packets.indexOf(second) + 1;
-            System.out.println(firstPacketIndex * secondPacketIndex);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+    @Override
+    public Integer solve(final List<String> input) {
+        final List<PacketPair> packetPairs = new ArrayList<>();
+        for (int i = 0; i < input.size(); i += 3) {
+            final DataArray firstPacket = parseDataArray(input.get(i));
+            final DataArray secondPacket = parseDataArray(input.get(i + 1));
+            packetPairs.add(new PacketPair(firstPacket, secondPacket));
         }
+
+        final List<DataArray> packets = packetPairs.stream()
+                                                   .collect(ArrayList::new, (list, packetPair) -> {
+                                                       list.add(packetPair.left);
+                                                       list.add(packetPair.right);
+                                                   }, ArrayList::addAll);
+        final DataArray first = getDividerPacket(2);
+        final DataArray second = getDividerPacket(6);
+        packets.add(first);
+        packets.add(second);
+        packets.sort(Main::compareDataArrays);
+        final int firstPacketIndex = packets.indexOf(first) + 1;
+        final int secondPacketIndex = packets.indexOf(second) + 1;
+        return firstPacketIndex * secondPacketIndex;
     }
 
     private static DataArray getDividerPacket(final int value) {
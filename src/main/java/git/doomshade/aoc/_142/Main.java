@@ -1,16 +1,17 @@
 package git.doomshade.aoc._142;
 
-import git.doomshade.aoc.shared.Util;
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.Solver;
+import git.doomshade.aoc.shared.Trace;
+import git.doomshade.aoc.shared.grid.ByteGrid;
+import git.doomshade.aoc.shared.parse.AsciiScanner;
+import git.doomshade.aoc.shared.parse.LineReader;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.function.ToIntFunction;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * <h2 id="part2">--- Part Two ---</h2><p>You realize you misread the scan. There isn't an <span title="Endless Void is my C cover band.">endless void</span> at the bottom
@@ -51,13 +52,14 @@ import java.util.regex.Pattern;
  * </code></pre>
  * <p>Using your scan, simulate the falling sand until the source of the sand becomes blocked. <em>How many units of sand come to rest?</em></p>
  */
-public class Main implements Runnable {
+public class Main implements Solver<List<List<Main.Point>>, Integer> {
     private static final Point SAND_SPAWN_POINT = new Point(500, 0);
     private static final byte AIR = 0;
     private static final byte ROCK = 1;
     private static final byte SAND = 2;
+    private static final byte[] SYMBOLS = {'.', '#', 'o'};
 
-    private record Point(int x, int y) {
+    public record Point(int x, int y) {
         public Point add(Point other) {
             return new Point(x + other.x, y + other.y);
         }
@@ -67,56 +69,59 @@ public class Main implements Runnable {
         }
     }
 
-    private static final Pattern POINT_PATTERN = Pattern.compile("(?<x>\\d+),(?<y>\\d+)");
+    private static final byte[] ARROW = AsciiScanner.token(" -> ");
 
-    private static List<Point> parseLines(final String input) {
-        final Matcher matcher = POINT_PATTERN.matcher(input);
-        final List<Point> points = new LinkedList<>();
+    private static List<Point> parseLines(final AsciiScanner scanner) {
+        final List<Point> points = new ArrayList<>();
 
-        while (matcher.find()) {
-            final int x = Integer.parseInt(matcher.group("x"));
-            final int y = Integer.parseInt(matcher.group("y"));
+        do {
+            final int x = scanner.readInt();
+            final int y = scanner.expect((byte) ',')
+                                 .readInt();
             points.add(new Point(x, y));
-        }
+        } while (scanner.tryMatch(ARROW));
 
         return points;
     }
 
     @Override
-    public void run() {
-        try {
-            final List<String> input = Util.readStringInput(getClass(), "input.txt");
+    public List<List<Point>> parse(final InputSource input) throws IOException {
+        try (LineReader line = input.lines()) {
+            final AsciiScanner scanner = new AsciiScanner();
             final List<List<Point>> verticesList = new ArrayList<>();
-            int maxX, maxY;
-            maxX = maxY = Integer.MIN_VALUE;
-            for (final String s : input) {
-                final List<Point> points = parseLines(s);
-                maxX = updateMax(maxX, points, x -> x.x);
-                maxY = updateMax(maxY, points, x -> x.y);
-                verticesList.add(points);
+            while (line.next()) {
+                verticesList.add(parseLines(scanner.reset(line)));
             }
+            return verticesList;
+        }
+    }
 
-            // change from part 1: set maxY to 3 for the extra floor
-            final byte[][] tiles = new byte[maxY + 3][maxX + 1 + maxY + 3];
-            for (final List<Point> vertices : verticesList) {
-                mapToTiles(tiles, vertices);
-            }
-            for (int x = 0; x < tiles[0].length; x++) {
-                tiles[maxY + 2][x] = ROCK;
-            }
-            int result = simulateSandFall(tiles);
-            if (result < 0) {
-                System.out.println("Last sand could not fit. F");
-            }
-            printTiles(tiles, System.out);
-            System.out.println("Result: " + result);
-//            printTiles(tiles, System.out);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+    @Override
+    public Integer solve(final List<List<Point>> verticesList) {
+        int maxX, maxY;
+        maxX = maxY = Integer.MIN_VALUE;
+        for (final List<Point> points : verticesList) {
+            maxX = updateMax(maxX, points, x -> x.x);
+            maxY = updateMax(maxY, points, x -> x.y);
+        }
+
+        // change from part 1: the rock padding below the last row is the floor, the sides stop the sand as well
+        final ByteGrid tiles = ByteGrid.of(maxY + 2, maxX + 1 + maxY + 3, 1);
+        tiles.fillPadding(ROCK);
+        for (final List<Point> vertices : verticesList) {
+            mapToTiles(tiles, vertices);
+        }
+        int result = simulateSandFall(tiles);
+        if (result < 0) {
+            System.out.println("Last sand could not fit. F");
         }
+        if (Trace.ENABLED) {
+            tiles.print(Trace.sink(), tile -> SYMBOLS[tile]);
+        }
+        return result;
     }
 
-    private int simulateSandFall(final byte[][] tiles) {
+    private int simulateSandFall(final ByteGrid tiles) {
         int result = 0;
 
         // main sand fall loop
@@ -136,28 +141,23 @@ public class Main implements Runnable {
         return result;
     }
 
-    private SandState simulateSingleUnit(final byte[][] tiles) {
-        int x = SAND_SPAWN_POINT.x;
-        int y = SAND_SPAWN_POINT.y;
-
-        if (tiles[y][x] == SAND) {
+    private SandState simulateSingleUnit(final ByteGrid tiles) {
+        int tile = tiles.index(SAND_SPAWN_POINT.y, SAND_SPAWN_POINT.x);
+        if (tiles.get(tile) == SAND) {
             return SandState.COULD_NOT_FIT;
         }
 
+        // the floor and the sides are rock, the sand always comes to rest
         while (true) {
-            if (y + 1 == tiles.length) {
-                return SandState.FELL_INTO_ABYSS;
-            }
-            if (tiles[y + 1][x] == AIR) {
-                y++;
-            } else if (x > 0 && tiles[y + 1][x - 1] == AIR) {
-                y++;
-                x--;
-            } else if (x < tiles[0].length - 1 && tiles[y + 1][x + 1] == AIR) {
-                y++;
-                x++;
+            final int below = tile + tiles.stride();
+            if (tiles.get(below) == AIR) {
+                tile = below;
+            } else if (tiles.get(below - 1) == AIR) {
+                tile = below - 1;
+            } else if (tiles.get(below + 1) == AIR) {
+                tile = below + 1;
             } else {
-                tiles[y][x] = SAND;
+                tiles.set(tile, SAND);
                 return SandState.RESTING;
             }
         }
@@ -165,24 +165,10 @@ public class Main implements Runnable {
 
     private enum SandState {
         COULD_NOT_FIT,
-        RESTING,
-        FELL_INTO_ABYSS
-    }
-
-    private void printTiles(final byte[][] tiles, final OutputStream out) throws IOException {
-        for (final byte[] tile : tiles) {
-            for (final byte b : tile) {
-                switch (b) {
-                    case AIR -> out.write('.');
-                    case ROCK -> out.write('#');
-                    case SAND -> out.write('o');
-                }
-            }
-            out.write('\n');
-        }
+        RESTING
     }
 
-    private void mapToTiles(final byte[][] tiles, final List<Point> vertices) {
+    private void mapToTiles(final ByteGrid tiles, final List<Point> vertices) {
         Point prevVertex = null;
         for (final Point vertex : vertices) {
             if (prevVertex != null) {
@@ -195,14 +181,14 @@ public class Main implements Runnable {
                     final int end = Math.max(prevVertex.x, vertex.x);
                     final int y = prevVertex.y;
                     for (int x = start; x <= end; x++) {
-                        tiles[y][x] = ROCK;
+                        tiles.set(y, x, ROCK);
                     }
                 } else if (changeVertical) {
                     final int start = Math.min(prevVertex.y, vertex.y);
                     final int end = Math.max(prevVertex.y, vertex.y);
                     final int x = prevVertex.x;
                     for (int y = start; y <= end; y++) {
-                        tiles[y][x] = ROCK;
+                        tiles.set(y, x, ROCK);
                     }
                 } else {
                     throw new IllegalStateException();
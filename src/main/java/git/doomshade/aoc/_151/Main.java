@@ -1,14 +1,15 @@
 package git.doomshade.aoc._151;
 
-import git.doomshade.aoc.shared.Util;
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.Solver;
+import git.doomshade.aoc.shared.parse.AsciiScanner;
+import git.doomshade.aoc.shared.parse.LineReader;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * <h2>--- Day 15: Beacon Exclusion Zone ---</h2><p>You feel the ground rumble again as the distress signal leads you to a large network of
@@ -122,9 +123,11 @@ import java.util.regex.Pattern;
  * <p>Consult the report from the sensors you just deployed. <em>In the row where <code>y=2000000</code>, how many positions cannot contain
  * a beacon?</em></p>
  */
-public class Main implements Runnable {
+public class Main implements Solver<InputSource, Integer> {
     // Sensor at x=2, y=18: closest beacon is at x=-2, y=15
-    private static final Pattern SENSOR_PATTERN = Pattern.compile(".+x=(?<sensorX>-?\\d+), y=(?<sensorY>-?\\d+).+x=(?<beaconX>-?\\d+), y=(?<beaconY>-?\\d+)");
+    private static final byte[] SENSOR_X = AsciiScanner.token("Sensor at x=");
+    private static final byte[] BEACON_X = AsciiScanner.token(": closest beacon is at x=");
+    private static final byte[] Y = AsciiScanner.token(", y=");
     private static final int TARGET_ROW = 2000000;
 
     private static class Point {
@@ -141,22 +144,33 @@ public class Main implements Runnable {
     }
 
     @Override
-    public void run() {
-        try {
-            final List<String> input = Util.readStringInput(getClass(), "input.txt");
+    public InputSource parse(final InputSource input) {
+        return input;
+    }
+
+    @Override
+    public boolean streaming() {
+        return true;
+    }
+
+    @Override
+    public Integer solve(final InputSource input) {
+        try (LineReader line = input.lines()) {
             final Set<Integer> visitedPositions = new HashSet<>();
             final List<Point> beacons = new ArrayList<>();
+            final AsciiScanner scanner = new AsciiScanner();
             int res = 0;
 
-            for (String s : input) {
-                final Matcher matcher = SENSOR_PATTERN.matcher(s);
-                if (!matcher.find()) {
-                    throw new IllegalStateException();
-                }
-                final int sensorX = Integer.parseInt(matcher.group("sensorX"));
-                final int sensorY = Integer.parseInt(matcher.group("sensorY"));
-                final int beaconX = Integer.parseInt(matcher.group("beaconX"));
-                final int beaconY = Integer.parseInt(matcher.group("beaconY"));
+            while (line.next()) {
+                scanner.reset(line)
+                       .expect(SENSOR_X);
+                final int sensorX = scanner.readInt();
+                final int sensorY = scanner.expect(Y)
+                                           .readInt();
+                final int beaconX = scanner.expect(BEACON_X)
+                                           .readInt();
+                final int beaconY = scanner.expect(Y)
+                                           .readInt();
 
                 final Point sensor = new Point(sensorX, sensorY);
                 final Point beacon = new Point(beaconX, beaconY);
@@ -175,7 +189,7 @@ public class Main implements Runnable {
                     }
                 }
             }
-            System.out.println("RESULT: " + res);
+            return res;
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -1,9 +1,10 @@
 package git.doomshade.aoc._21;
 
-import git.doomshade.aoc.shared.Util;
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.Solver;
 
 import java.io.IOException;
-import java.util.List;
+import java.nio.ByteBuffer;
 
 /**
  * <h2>--- Day 2: Rock Paper Scissors ---</h2><p>The Elves begin to set up camp on the beach. To decide whose tent gets to be closest to the snack storage, a giant
@@ -37,37 +38,14 @@ import java.util.List;
  * <p>In this example, if you were to follow the strategy guide, you would get a total score of <code><em>15</em></code> (8 + 1 + 6).</p>
  * <p><em>What would your total score be if everything goes exactly according to your strategy guide?</em></p>
  */
-public class Main implements Runnable {
-
+public class Main implements Solver<ByteBuffer, Long> {
     @Override
-    public void run() {
-        try {
-            final List<String> input = Util.readStringInput(getClass(), "input.txt");
-            int score = 0;
-            for (String s : input) {
-                final String[] split = s.split(" ");
-                final int opponent = split[0].charAt(0) - 'A';
-                final int player = split[1].charAt(0) - 'X';
-                final int delta = Math.floorMod(player - opponent, 3);
-                score += player + 1;
+    public ByteBuffer parse(final InputSource input) throws IOException {
+        return input.loadedBuffer();
+    }
 
-                switch (delta) {
-                    // draw
-                    case 0:
-                        score += 3;
-                        break;
-                    // win
-                    case 1:
-                        score += 6;
-                        break;
-                    // lose
-                    case 2:
-                        break;
-                }
-            }
-            System.out.println(score);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    @Override
+    public Long solve(final ByteBuffer input) {
+        return RuleSet.SHAPE.totalScore(input);
     }
 }
@@ -0,0 +1,86 @@
+package git.doomshade.aoc._21;
+
+import git.doomshade.aoc.shared.ChunkedReducer;
+import git.doomshade.aoc.shared.ChunkedReducer.Boundary;
+import git.doomshade.aoc.shared.Trace;
+import git.doomshade.aoc.shared.parse.LineCursor;
+
+import java.nio.ByteBuffer;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * How the second column of the strategy guide is read. Every round is a line {@code "A X"}, both columns have only three values, so the score
+ * of each of the nine combinations is computed once up front and a round is scored with a single table lookup.
+ */
+public enum RuleSet {
+    /**
+     * The second column is the shape to play.
+     */
+    SHAPE(Shapes.NAMES, (opponent, player) -> {
+        // 0 = draw, 1 = win, 2 = loss
+        final int delta = Math.floorMod(player - opponent, 3);
+        return player + 1 + Math.floorMod(delta + 1, 3) * 3;
+    }),
+    /**
+     * The second column is the outcome the round has to end with.
+     */
+    OUTCOME(new String[] {"Lose", "Draw", "Win"}, (opponent, outcome) -> {
+        // opponent is rock (0) and we must lose (0) -> scissors (0 + 0 - 1 = 2) is chosen
+        // opponent is scissors (2) and we must draw (1) -> scissors (2 + 1 - 1 = 2) are chosen
+        // opponent is scissors (2) and we must win (2) -> rock (2 + 2 - 1 = 0) is chosen
+        final int chosenTool = Math.floorMod(opponent + outcome - 1, 3);
+        return chosenTool + 1 + outcome * 3;
+    });
+
+    private final String[] columnNames;
+    private final int[] scores = new int[9];
+    private final ChunkedReducer<Long> totalScore = new ChunkedReducer<>(Boundary.LINE, this::scoreRounds, Long::sum);
+
+    RuleSet(final String[] columnNames, final IntBinaryOperator score) {
+        this.columnNames = columnNames;
+        for (int opponent = 0; opponent < 3; opponent++) {
+            for (int column = 0; column < 3; column++) {
+                scores[opponent * 3 + column] = score.applyAsInt(opponent, column);
+            }
+        }
+    }
+
+    /**
+     * @param opponent the first column, {@code 0} to {@code 2}
+     * @param column   the second column, {@code 0} to {@code 2}
+     */
+    public int score(final int opponent, final int column) {
+        return scores[opponent * 3 + column];
+    }
+
+    /**
+     * Sums the scores of all the rounds, the chunks of the buffer are scored in parallel.
+     */
+    public long totalScore(final ByteBuffer buffer) {
+        return totalScore.reduce(buffer);
+    }
+
+    private long scoreRounds(final LineCursor line) {
+        long score = 0;
+        while (line.next()) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            final int opponent = line.byteAt(0) - 'A';
+            final int column = line.byteAt(2) - 'X';
+            final int roundScore = scores[opponent * 3 + column];
+            if (Trace.ENABLED) {
+                Trace.printf("%s -> %s: %d%n", Shapes.NAMES[opponent], columnNames[column], roundScore);
+            }
+            score += roundScore;
+        }
+        return score;
+    }
+
+    /**
+     * The names of the shapes, the constants cannot refer to a static field of the enum itself.
+     */
+    private static final class Shapes {
+        private static final String[] NAMES = {"Rock", "Paper", "Scissors"};
+    }
+}
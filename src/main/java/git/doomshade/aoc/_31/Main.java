@@ -1,9 +1,10 @@
 package git.doomshade.aoc._31;
 
-import git.doomshade.aoc.shared.Util;
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.Solver;
 
 import java.io.IOException;
-import java.util.List;
+import java.nio.ByteBuffer;
 
 /**
  * <h2>--- Day 3: Rucksack Reorganization ---</h2><p>One Elf has the important job of loading all of the
@@ -44,64 +45,14 @@ import java.util.List;
  * (<code>P</code>), 22 (<code>v</code>), 20 (<code>t</code>), and 19 (<code>s</code>); the sum of these is <code><em>157</em></code>.</p>
  * <p>Find the item type that appears in both compartments of each rucksack. <em>What is the sum of the priorities of those item types?</em></p>
  */
-public class Main implements Runnable {
+public class Main implements Solver<ByteBuffer, Integer> {
     @Override
-    public void run() {
-        try {
-            final List<String> input = Util.readStringInput(getClass(), "input.txt");
-            int result = 0;
-            for (String s : input) {
-                long first = 0;
-                final String firstCompartment = s.substring(0, s.length() / 2);
-                final String secondCompartment = s.substring(s.length() / 2);
-                for (int i = 0; i < firstCompartment.length(); i++) {
-                    final char c = firstCompartment.charAt(i);
-                    final int codePoint = c - 'A';
-                    System.out.print(codePoint + " ");
-                    first |= (1L << codePoint);
-                }
-                System.out.println();
-                long temp = first;
-                printBinary(temp);
-                System.out.println();
-                printAlphabetReverse();
-                System.out.println(firstCompartment + " / " + secondCompartment);
-
-                for (int i = 0; i < secondCompartment.length(); i++) {
-                    final char c = secondCompartment.charAt(i);
-                    final int codePoint = c - 'A';
-                    if ((first & (1L << codePoint)) != 0) {
-                        int itemTypePriority;
-                        if (Character.isUpperCase(c)) {
-                            itemTypePriority = c - 'A' + 27;
-                        } else {
-                            itemTypePriority = c - 'a' + 1;
-                        }
-                        result += itemTypePriority;
-                        break;
-                    }
-                }
-                System.out.println("\n----------------------------------------------------------------");
-                System.out.println();
-            }
-            System.out.println(result);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    public static void printAlphabetReverse() {
-        System.out.print("000000");
-        for (int i = 122; i >= 65; i--) {
-            System.out.print((char) i);
-        }
-        System.out.println();
+    public ByteBuffer parse(final InputSource input) throws IOException {
+        return input.loadedBuffer();
     }
 
-    public static void printBinary(long temp) {
-        for (int i = 0; i < 64; i++, temp <<= 1) {
-            final long res = temp & (1L << 63);
-            System.out.print(res == 0 ? "0" : "1");
-        }
+    @Override
+    public Integer solve(final ByteBuffer input) {
+        return Rucksacks.misplacedPrioritySum(input);
     }
 }
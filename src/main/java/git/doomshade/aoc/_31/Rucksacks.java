@@ -0,0 +1,113 @@
+package git.doomshade.aoc._31;
+
+import git.doomshade.aoc.shared.ChunkedReducer;
+import git.doomshade.aoc.shared.ChunkedReducer.Boundary;
+import git.doomshade.aoc.shared.Trace;
+import git.doomshade.aoc.shared.parse.ByteRange;
+import git.doomshade.aoc.shared.parse.LineCursor;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The day 3 engine shared by both parts. A set of item types is a {@code long} mask where the bit of an item type is its priority, {@code a}
+ * to {@code z} are bits 1 to 26 and {@code A} to {@code Z} bits 27 to 52. The priority of the only item in an intersection of the masks is then
+ * simply its number of trailing zeros.
+ */
+public final class Rucksacks {
+    private static final long[] ITEM_BITS = new long[128];
+    private static final int GROUP_SIZE = 3;
+    private static final ChunkedReducer<Integer> PRIORITY_SUM = new ChunkedReducer<>(Boundary.LINE, Rucksacks::misplacedPriorities, Integer::sum);
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            ITEM_BITS[c] = 1L << (c - 'a' + 1);
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            ITEM_BITS[c] = 1L << (c - 'A' + 27);
+        }
+    }
+
+    private Rucksacks() {
+    }
+
+    /**
+     * @param from absolute index of the first byte
+     * @param to   absolute index after the last byte
+     *
+     * @return the mask of the item types in the range
+     */
+    public static long items(final ByteBuffer buffer, final int from, final int to) {
+        long mask = 0;
+        for (int i = from; i < to; i++) {
+            mask |= ITEM_BITS[buffer.get(i) & 0x7F];
+        }
+        return mask;
+    }
+
+    public static long items(final ByteRange line) {
+        return items(line.buffer(), line.start(), line.end());
+    }
+
+    /**
+     * @param items a mask with a single item type
+     */
+    public static int priority(final long items) {
+        return Long.numberOfTrailingZeros(items);
+    }
+
+    /**
+     * Sums the priorities of the item types that are in both compartments of a rucksack, the chunks of the buffer are processed in parallel.
+     */
+    public static int misplacedPrioritySum(final ByteBuffer buffer) {
+        return PRIORITY_SUM.reduce(buffer);
+    }
+
+    /**
+     * Sums the priorities of the badges, the item types carried by all the elves of a group of three, in a single pass over the buffer. Groups
+     * without a common item type and an incomplete group at the end have no badge and are skipped.
+     */
+    public static int badgePrioritySum(final ByteBuffer buffer) {
+        final LineCursor line = new LineCursor(buffer);
+        int result = 0;
+        int inGroup = 0;
+        long common = -1;
+        while (line.next()) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            common &= items(line);
+            if (++inGroup == GROUP_SIZE) {
+                if (Trace.ENABLED) {
+                    Trace.printf("badge %s (%d)%n", Long.toBinaryString(common), priority(common));
+                }
+                if (common != 0) {
+                    result += priority(common);
+                }
+                inGroup = 0;
+                common = -1;
+            }
+        }
+        return result;
+    }
+
+    private static int misplacedPriorities(final LineCursor line) {
+        int result = 0;
+        while (line.next()) {
+            final int middle = line.start() + line.length() / 2;
+            final long first = items(line.buffer(), line.start(), middle);
+            final long second = items(line.buffer(), middle, line.end());
+            final long misplaced = first & second;
+            if (Trace.ENABLED) {
+                Trace.printf("%s / %s -> %s (%d)%n",
+                             line.subSequence(0, line.length() / 2),
+                             line.subSequence(line.length() / 2, line.length()),
+                             Long.toBinaryString(misplaced),
+                             priority(misplaced));
+            }
+            if (misplaced != 0) {
+                result += priority(misplaced);
+            }
+        }
+        return result;
+    }
+}
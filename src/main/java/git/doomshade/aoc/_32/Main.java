@@ -1,9 +1,11 @@
 package git.doomshade.aoc._32;
 
-import git.doomshade.aoc.shared.Util;
+import git.doomshade.aoc._31.Rucksacks;
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.Solver;
 
 import java.io.IOException;
-import java.util.List;
+import java.nio.ByteBuffer;
 
 /**
  * <h2 id="part2">--- Part Two ---</h2><p>As you finish identifying the misplaced items, the Elves come to you with another issue.</p>
@@ -33,46 +35,14 @@ import java.util.List;
  * (<code>Z</code>) for the second group. The sum of these is <code><em>70</em></code>.</p>
  * <p>Find the item type that corresponds to the badges of each three-Elf group. <em>What is the sum of the priorities of those item types?</em></p>
  */
-public class Main implements Runnable {
+public class Main implements Solver<ByteBuffer, Integer> {
     @Override
-    public void run() {
-        final List<String> input;
-        try {
-            input = Util.readStringInput(getClass(), "input.txt");
-            int result = 0;
-            for (int i = 0; i < input.size(); i++) {
-                final long first = mapToLong(input.get(i++));
-                final long second = mapToLong(input.get(i++));
-                final long third = mapToLong(input.get(i));
-                final long commonItem = first & second & third;
-                long temp = commonItem;
-                char badge = 'A';
-                for (long j = 0; j < 63; j++, temp >>= 1) {
-                    if (temp == 1) {
-                        break;
-                    }
-                    badge++;
-                }
-                if (Character.isUpperCase(badge)) {
-                    result += (badge - 'A' + 27);
-                } else {
-                    result += (badge - 'a' + 1);
-                }
-            }
-            System.out.println(result);
-
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    public ByteBuffer parse(final InputSource input) throws IOException {
+        return input.loadedBuffer();
     }
 
-    private static long mapToLong(String s) {
-        long num = 0;
-        for (int i = 0; i < s.length(); i++) {
-            final char c = s.charAt(i);
-            final int codePoint = c - 'A';
-            num |= (1L << codePoint);
-        }
-        return num;
+    @Override
+    public Integer solve(final ByteBuffer input) {
+        return Rucksacks.badgePrioritySum(input);
     }
 }
@@ -1,11 +1,9 @@
 package git.doomshade.aoc._41;
 
-import git.doomshade.aoc.shared.Util;
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.Solver;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * <h2>--- Day 4: Camp Cleanup ---</h2><p>Space needs to be cleared before the last supplies can be unloaded from the ships, and so several Elves have been assigned the job
@@ -55,33 +53,14 @@ import java.util.regex.Pattern;
  * sections their partner will already be cleaning, so these seem like the most in need of reconsideration. In this example, there are <code><em>2</em></code> such pairs.</p>
  * <p><em>In how many assignment pairs does one range fully contain the other?</em></p>
  */
-public class Main implements Runnable {
-    public static final Pattern PAIR_PATTERN = Pattern.compile("(?<A>(?<AL>\\d+)-(?<AU>\\d+)),(?<B>(?<BL>\\d+)-(?<BU>\\d+))");
-
+public class Main implements Solver<RangePairs, Integer> {
     @Override
-    public void run() {
-        try {
-            final List<String> input = Util.readStringInput(getClass(), "input.txt");
-            int result = 0;
-            for (String s : input) {
-                final Matcher matcher = PAIR_PATTERN.matcher(s);
-                if (!matcher.find()) {
-                    throw new IllegalStateException();
-                }
-                final int lowerA = Integer.parseInt(matcher.group("AL"));
-                final int upperA = Integer.parseInt(matcher.group("AU"));
-                final int lowerB = Integer.parseInt(matcher.group("BL"));
-                final int upperB = Integer.parseInt(matcher.group("BU"));
+    public RangePairs parse(final InputSource input) throws IOException {
+        return RangePairs.parse(input);
+    }
 
-                final boolean firstCase = lowerA <= lowerB && upperA >= upperB;
-                final boolean secondCase = lowerB <= lowerA && upperB >= upperA;
-                if (firstCase || secondCase) {
-                    result++;
-                }
-            }
-            System.out.println(result);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    @Override
+    public Integer solve(final RangePairs input) {
+        return input.countContaining();
     }
 }
@@ -0,0 +1,134 @@
+package git.doomshade.aoc._41;
+
+import git.doomshade.aoc.shared.ChunkedReducer;
+import git.doomshade.aoc.shared.ChunkedReducer.Boundary;
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.parse.AsciiScanner;
+import git.doomshade.aoc.shared.parse.LineCursor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The parsed day 4 input, the section ranges of every pair of elves laid out in four columns. Shared by both parts.
+ * <p>The counting kernels have no branches and no calls in their loops, the comparisons are turned into sign bits. That keeps them simple enough
+ * for the JIT to unroll and vectorise the loops over the columns.</p>
+ */
+public final class RangePairs {
+    // "1-1,1-1\n" is the shortest possible line
+    private static final int MIN_LINE_LENGTH = 8;
+    private static final ChunkedReducer<List<RangePairs>> CHUNKS = new ChunkedReducer<>(Boundary.LINE, RangePairs::parseChunk, RangePairs::append);
+
+    private final int[] lowerA;
+    private final int[] upperA;
+    private final int[] lowerB;
+    private final int[] upperB;
+    private final int size;
+
+    private RangePairs(final int[] lowerA, final int[] upperA, final int[] lowerB, final int[] upperB, final int size) {
+        this.lowerA = lowerA;
+        this.upperA = upperA;
+        this.lowerB = lowerB;
+        this.upperB = upperB;
+        this.size = size;
+    }
+
+    /**
+     * Parses the {@code 2-4,6-8} lines, the chunks of the input are parsed in parallel and joined at the end.
+     */
+    public static RangePairs parse(final InputSource input) throws IOException {
+        return concat(CHUNKS.reduce(input.buffer()));
+    }
+
+    /**
+     * Parses a chunk of lines in a single pass over the bytes.
+     */
+    private static List<RangePairs> parseChunk(final LineCursor line) {
+        // the columns are sized for the shortest lines up front so that the hot loop does not have to grow them
+        final int capacity = (line.limit() - line.start()) / MIN_LINE_LENGTH + 1;
+        final int[] lowerA = new int[capacity];
+        final int[] upperA = new int[capacity];
+        final int[] lowerB = new int[capacity];
+        final int[] upperB = new int[capacity];
+
+        final AsciiScanner scanner = new AsciiScanner();
+        int size = 0;
+        while (line.next()) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            scanner.reset(line);
+            lowerA[size] = scanner.readInt();
+            upperA[size] = scanner.expect((byte) '-')
+                                  .readInt();
+            lowerB[size] = scanner.expect((byte) ',')
+                                  .readInt();
+            upperB[size] = scanner.expect((byte) '-')
+                                  .readInt();
+            size++;
+        }
+        final List<RangePairs> chunks = new ArrayList<>();
+        chunks.add(new RangePairs(lowerA, upperA, lowerB, upperB, size));
+        return chunks;
+    }
+
+    private static List<RangePairs> append(final List<RangePairs> chunks, final List<RangePairs> following) {
+        chunks.addAll(following);
+        return chunks;
+    }
+
+    private static RangePairs concat(final List<RangePairs> chunks) {
+        if (chunks.size() == 1) {
+            return chunks.get(0);
+        }
+        int size = 0;
+        for (final RangePairs chunk : chunks) {
+            size += chunk.size;
+        }
+        final int[] lowerA = new int[size];
+        final int[] upperA = new int[size];
+        final int[] lowerB = new int[size];
+        final int[] upperB = new int[size];
+        int offset = 0;
+        for (final RangePairs chunk : chunks) {
+            System.arraycopy(chunk.lowerA, 0, lowerA, offset, chunk.size);
+            System.arraycopy(chunk.upperA, 0, upperA, offset, chunk.size);
+            System.arraycopy(chunk.lowerB, 0, lowerB, offset, chunk.size);
+            System.arraycopy(chunk.upperB, 0, upperB, offset, chunk.size);
+            offset += chunk.size;
+        }
+        return new RangePairs(lowerA, upperA, lowerB, upperB, size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of pairs where one range fully contains the other
+     */
+    public int countContaining() {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            // negative iff A does not contain B, resp. B does not contain A
+            final int notAContainsB = (lowerB[i] - lowerA[i]) | (upperA[i] - upperB[i]);
+            final int notBContainsA = (lowerA[i] - lowerB[i]) | (upperB[i] - upperA[i]);
+            count += 1 - ((notAContainsB & notBContainsA) >>> 31);
+        }
+        return count;
+    }
+
+    /**
+     * @return the number of pairs where the ranges overlap at all
+     */
+    public int countOverlapping() {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            // negative iff one of the ranges ends before the other one starts
+            final int disjoint = (upperA[i] - lowerB[i]) | (upperB[i] - lowerA[i]);
+            count += 1 - (disjoint >>> 31);
+        }
+        return count;
+    }
+}
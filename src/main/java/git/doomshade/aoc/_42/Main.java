@@ -1,11 +1,10 @@
 package git.doomshade.aoc._42;
 
-import git.doomshade.aoc.shared.Util;
+import git.doomshade.aoc._41.RangePairs;
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.Solver;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * <h2 id="part2">--- Part Two ---</h2><p>It seems like there is still quite a bit of duplicate work planned. Instead, the Elves would <span title="If you like this, you'll
@@ -21,37 +20,14 @@ import java.util.regex.Pattern;
  * <p>So, in this example, the number of overlapping assignment pairs is <code><em>4</em></code>.</p>
  * <p><em>In how many assignment pairs do the ranges overlap?</em></p>
  */
-public class Main implements Runnable {
-    public static final Pattern PAIR_PATTERN = Pattern.compile("(?<A>(?<AL>\\d+)-(?<AU>\\d+)),(?<B>(?<BL>\\d+)-(?<BU>\\d+))");
-
+public class Main implements Solver<RangePairs, Integer> {
     @Override
-    public void run() {
-
-        try {
-            final List<String> input = Util.readStringInput(getClass(), "input.txt");
-            int result = 0;
-            for (String s : input) {
-                final Matcher matcher = PAIR_PATTERN.matcher(s);
-                if (!matcher.find()) {
-                    throw new IllegalStateException();
-                }
-
-                final int lowerA = Integer.parseInt(matcher.group("AL"));
-                final int upperA = Integer.parseInt(matcher.group("AU"));
-                final int lowerB = Integer.parseInt(matcher.group("BL"));
-                final int upperB = Integer.parseInt(matcher.group("BU"));
+    public RangePairs parse(final InputSource input) throws IOException {
+        return RangePairs.parse(input);
+    }
 
-                final boolean firstCase = lowerA <= lowerB && upperA >= upperB;
-                final boolean secondCase = lowerB <= lowerA && upperB >= upperA;
-                final boolean thirdCase = upperA >= lowerB && lowerA <= lowerB;
-                final boolean fourthCase = upperB >= lowerA && lowerB <= lowerA;
-                if (firstCase || secondCase || thirdCase || fourthCase) {
-                    result++;
-                }
-            }
-            System.out.println(result);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    @Override
+    public Integer solve(final RangePairs input) {
+        return input.countOverlapping();
     }
 }
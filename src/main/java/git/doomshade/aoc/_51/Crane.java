@@ -0,0 +1,45 @@
+package git.doomshade.aoc._51;
+
+/**
+ * The crane models, they differ only in how many crates they can lift at once.
+ */
+public enum Crane {
+    /**
+     * Lifts a single crate at a time.
+     */
+    CRATE_MOVER_9000 {
+        @Override
+        public void move(final CrateYard yard, final int count, final int from, final int to) {
+            yard.moveReversed(count, from, to);
+        }
+
+        @Override
+        public int sourceDepth(final int depth, final int count) {
+            return count - 1 - depth;
+        }
+    },
+    /**
+     * Lifts all the moved crates at once.
+     */
+    CRATE_MOVER_9001 {
+        @Override
+        public void move(final CrateYard yard, final int count, final int from, final int to) {
+            yard.moveInOrder(count, from, to);
+        }
+
+        @Override
+        public int sourceDepth(final int depth, final int count) {
+            return depth;
+        }
+    };
+
+    public abstract void move(CrateYard yard, int count, int from, int to);
+
+    /**
+     * @param depth depth of a moved crate in the target stack after the move, 0 is the top
+     * @param count the number of moved crates
+     *
+     * @return the depth the crate had in the source stack before the move
+     */
+    public abstract int sourceDepth(int depth, int count);
+}
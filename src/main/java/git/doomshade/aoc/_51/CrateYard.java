@@ -0,0 +1,81 @@
+package git.doomshade.aoc._51;
+
+import java.util.Arrays;
+
+/**
+ * The stacks of crates, each one a growable {@code char[]} with the bottom crate at index 0. Moving several crates at once is a single
+ * {@link System#arraycopy(Object, int, Object, int, int) array copy} between the stacks.
+ */
+public final class CrateYard {
+    private final char[][] stacks;
+    private final int[] heights;
+
+    /**
+     * @param stacks crates of every stack from the bottom to the top, the arrays are copied
+     */
+    public CrateYard(final char[][] stacks) {
+        this.stacks = new char[stacks.length][];
+        this.heights = new int[stacks.length];
+        for (int i = 0; i < stacks.length; i++) {
+            this.stacks[i] = Arrays.copyOf(stacks[i], Math.max(16, stacks[i].length));
+            this.heights[i] = stacks[i].length;
+        }
+    }
+
+    public int stackCount() {
+        return stacks.length;
+    }
+
+    public int height(final int stack) {
+        return heights[stack];
+    }
+
+    /**
+     * Moves the crates one by one, so they land in reverse order.
+     */
+    public void moveReversed(final int count, final int from, final int to) {
+        final int start = moveInOrder(count, from, to);
+        final char[] target = stacks[to];
+        for (int i = start, j = start + count - 1; i < j; i++, j--) {
+            final char tmp = target[i];
+            target[i] = target[j];
+            target[j] = tmp;
+        }
+    }
+
+    /**
+     * Moves the crates all at once, so they keep their order.
+     *
+     * @return the index of the lowest moved crate in the target stack
+     */
+    public int moveInOrder(final int count, final int from, final int to) {
+        if (count > heights[from]) {
+            throw new IllegalStateException("Cannot move " + count + " crates from stack " + (from + 1) + " of height " + heights[from]);
+        }
+        final int start = heights[to];
+        ensureCapacity(to, start + count);
+        heights[from] -= count;
+        System.arraycopy(stacks[from], heights[from], stacks[to], start, count);
+        heights[to] += count;
+        return start;
+    }
+
+    /**
+     * @return the top crates of the stacks, empty stacks are left out
+     */
+    public String tops() {
+        final StringBuilder sb = new StringBuilder(stacks.length);
+        for (int i = 0; i < stacks.length; i++) {
+            if (heights[i] > 0) {
+                sb.append(stacks[i][heights[i] - 1]);
+            }
+        }
+        return sb.toString();
+    }
+
+    private void ensureCapacity(final int stack, final int capacity) {
+        if (capacity > stacks[stack].length) {
+            stacks[stack] = Arrays.copyOf(stacks[stack], Math.max(capacity, stacks[stack].length * 2));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package git.doomshade.aoc._51;
+
+import java.util.Locale;
+
+/**
+ * Ways to find the top crates after a rearrangement. The engine is picked with the {@code aoc.crates.engine} property, e.g. by passing
+ * {@code --crates.engine=reverse_trace} to the launcher, and defaults to {@link #SIMULATION}.
+ */
+public enum RearrangementEngine {
+    /**
+     * Moves every crate on a {@link CrateYard}, the cost grows with the number of moved crates.
+     */
+    SIMULATION {
+        @Override
+        public String topCrates(final RearrangementPlan plan, final Crane crane) {
+            final CrateYard yard = new CrateYard(plan.stacks());
+            for (int i = 0; i < plan.moveCount(); i++) {
+                crane.move(yard, plan.count(i), plan.from(i), plan.to(i));
+            }
+            return yard.tops();
+        }
+    },
+    /**
+     * Follows only the final top crates back through the moves to their places in the starting stacks, O(moves * stacks) no matter how many
+     * crates are moved.
+     */
+    REVERSE_TRACE {
+        @Override
+        public String topCrates(final RearrangementPlan plan, final Crane crane) {
+            final char[][] stacks = plan.stacks();
+            final int[] heights = new int[stacks.length];
+            for (int i = 0; i < stacks.length; i++) {
+                heights[i] = stacks[i].length;
+            }
+            for (int i = 0; i < plan.moveCount(); i++) {
+                final int count = plan.count(i);
+                if (count > heights[plan.from(i)]) {
+                    throw new IllegalStateException("Cannot move " + count + " crates from stack " + (plan.from(i) + 1) + " of height " +
+                                                    heights[plan.from(i)]);
+                }
+                heights[plan.from(i)] -= count;
+                heights[plan.to(i)] += count;
+            }
+
+            // the tracked positions as their stack and depth from the top, empty stacks have nothing to track
+            final int[] stack = new int[stacks.length];
+            final int[] depth = new int[stacks.length];
+            int tracked = 0;
+            for (int i = 0; i < stacks.length; i++) {
+                if (heights[i] > 0) {
+                    stack[tracked++] = i;
+                }
+            }
+
+            for (int i = plan.moveCount() - 1; i >= 0; i--) {
+                final int count = plan.count(i);
+                final int from = plan.from(i);
+                final int to = plan.to(i);
+                // a move onto the same stack leaves the stacks as they were
+                if (from == to) {
+                    continue;
+                }
+                for (int j = 0; j < tracked; j++) {
+                    if (stack[j] == to) {
+                        if (depth[j] < count) {
+                            stack[j] = from;
+                            depth[j] = crane.sourceDepth(depth[j], count);
+                        } else {
+                            depth[j] -= count;
+                        }
+                    } else if (stack[j] == from) {
+                        depth[j] += count;
+                    }
+                }
+            }
+
+            final StringBuilder sb = new StringBuilder(tracked);
+            for (int j = 0; j < tracked; j++) {
+                final char[] crates = stacks[stack[j]];
+                sb.append(crates[crates.length - 1 - depth[j]]);
+            }
+            return sb.toString();
+        }
+    };
+
+    public static final String PROPERTY = "aoc.crates.engine";
+
+    /**
+     * @return the engine named by the {@link #PROPERTY} property, or {@link #SIMULATION} if it is not set
+     */
+    public static RearrangementEngine fromProperty() {
+        final String name = System.getProperty(PROPERTY);
+        return name == null ? SIMULATION : valueOf(name.toUpperCase(Locale.ROOT)
+                                                       .replace('-', '_'));
+    }
+
+    /**
+     * @return the top crates of the stacks after the plan is carried out by the crane, empty stacks are left out
+     */
+    public abstract String topCrates(RearrangementPlan plan, Crane crane);
+}
@@ -0,0 +1,98 @@
+package git.doomshade.aoc._51;
+
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.parse.AsciiScanner;
+import git.doomshade.aoc.shared.parse.FieldCursor;
+import git.doomshade.aoc.shared.parse.LineReader;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The parsed day 5 input: the starting stacks of crates and the rearrangement procedure. Shared by both parts, the parts differ only in the way
+ * the crane moves the crates.
+ *
+ * @param stacks crates of every stack from the bottom to the top
+ * @param moves  the moves flattened into triplets of count, source stack and target stack, the stacks are indexed from 0
+ */
+public record RearrangementPlan(char[][] stacks, int[] moves) {
+    private static final byte[] MOVE = AsciiScanner.token("move");
+    private static final byte[] FROM = AsciiScanner.token("from");
+    private static final byte[] TO = AsciiScanner.token("to");
+
+    public static RearrangementPlan parse(final InputSource input) throws IOException {
+        try (LineReader line = input.lines()) {
+            // the drawing is read top to bottom, so the crates are collected top first
+            final List<StringBuilder> stacks = new ArrayList<>();
+            while (line.next()) {
+                if (line.isEmpty() || line.toString()
+                                          .contains("1")) {
+                    break;
+                }
+                for (int j = 0; j + 1 < line.length(); j += 4) {
+                    final char c = line.charAt(j + 1);
+                    if (Character.isSpaceChar(c)) {
+                        continue;
+                    }
+                    final int idx = j / 4;
+                    while (stacks.size() <= idx) {
+                        stacks.add(new StringBuilder());
+                    }
+                    stacks.get(idx)
+                          .append(c);
+                }
+            }
+
+            final char[][] crates = new char[stacks.size()][];
+            for (int i = 0; i < crates.length; i++) {
+                crates[i] = stacks.get(i)
+                                  .reverse()
+                                  .toString()
+                                  .toCharArray();
+            }
+
+            final FieldCursor fields = new FieldCursor(line, (byte) ' ');
+            final AsciiScanner scanner = new AsciiScanner();
+            int[] moves = new int[3 * 64];
+            int size = 0;
+            while (line.next()) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                if (size + 3 > moves.length) {
+                    moves = Arrays.copyOf(moves, moves.length * 2);
+                }
+                // move 3 from 1 to 2
+                fields.reset(line)
+                      .expect(MOVE);
+                moves[size++] = scanner.reset(fields.nextField())
+                                       .readInt();
+                fields.expect(FROM);
+                moves[size++] = scanner.reset(fields.nextField())
+                                       .readInt() - 1;
+                fields.expect(TO);
+                moves[size++] = scanner.reset(fields.nextField())
+                                       .readInt() - 1;
+            }
+            return new RearrangementPlan(crates, Arrays.copyOf(moves, size));
+        }
+    }
+
+    public int moveCount() {
+        return moves.length / 3;
+    }
+
+    public int count(final int move) {
+        return moves[move * 3];
+    }
+
+    public int from(final int move) {
+        return moves[move * 3 + 1];
+    }
+
+    public int to(final int move) {
+        return moves[move * 3 + 2];
+    }
+}
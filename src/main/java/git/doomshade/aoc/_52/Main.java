@@ -1,14 +1,12 @@
 package git.doomshade.aoc._52;
 
-import git.doomshade.aoc.shared.Util;
+import git.doomshade.aoc._51.Crane;
+import git.doomshade.aoc._51.RearrangementEngine;
+import git.doomshade.aoc._51.RearrangementPlan;
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.Solver;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Stack;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * <h2 id="part2">--- Part Two ---</h2><p>As you watch the crane operator expertly rearrange the crates, you notice the process isn't following your prediction.</p>
@@ -59,69 +57,15 @@ import java.util.regex.Pattern;
  * <p>Before the rearrangement process finishes, update your simulation so that the Elves know where they should stand to be ready to unload the final supplies. <em>After
  * the rearrangement procedure completes, what crate ends up on top of each stack?</em></p>
  */
-public class Main implements Runnable {
-    private static final Pattern PATTERN = Pattern.compile("move (\\d+) from (\\d+) to (\\d+)");
-
+public class Main implements Solver<RearrangementPlan, String> {
     @Override
-    public void run() {
-        try {
-            final List<String> input = Util.readStringInput(getClass(), "input.txt");
-            final List<Stack<Character>> allCrates = new ArrayList<>();
-            int instructionIndex = -1;
-            for (int i = 0; i < input.size(); i++) {
-                final String s = input.get(i);
-                if (s.isEmpty() || s.contains("1")) {
-                    instructionIndex = i;
-                    break;
-                }
-                for (int j = 0; j < s.length(); j += 4) {
-                    final char c = s.charAt(j + 1);
-                    if (Character.isSpaceChar(c)) {
-                        continue;
-                    }
-                    final int idx = j / 4;
-                    while (allCrates.size() <= idx) {
-                        allCrates.add(new Stack<>());
-                    }
-                    final Stack<Character> stack = allCrates.get(idx);
-                    stack.push(c);
-                }
-            }
-
-            for (int i = 0; i < allCrates.size(); i++) {
-                Collections.reverse(allCrates.get(i));
-            }
-
-            for (int i = instructionIndex + 2; i < input.size(); i++) {
-                final String s = input.get(i);
-                final Matcher matcher = PATTERN.matcher(s);
-                if (!matcher.find()) {
-                    throw new IllegalStateException();
-                }
-                final int count = Integer.parseInt(matcher.group(1));
-                final int from = Integer.parseInt(matcher.group(2));
-                final int to = Integer.parseInt(matcher.group(3));
-//                System.out.printf("move %d from %d to %d%n", count, from, to);
-
-                final Stack<Character> crateFrom = allCrates.get(from - 1);
-                final Stack<Character> crateTo = allCrates.get(to - 1);
-                final Stack<Character> temp = new Stack<>();
-                for (int j = 0; j < count; j++) {
-                    temp.push(crateFrom.pop());
-                }
+    public RearrangementPlan parse(final InputSource input) throws IOException {
+        return RearrangementPlan.parse(input);
+    }
 
-                for (int j = 0; j < count; j++) {
-                    crateTo.push(temp.pop());
-                }
-            }
-            StringBuilder sb = new StringBuilder();
-            for (int i = 0; i < allCrates.size(); i++) {
-                sb.append(allCrates.get(i)
-                                   .pop());
-            }
-            System.out.println(sb);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    @Override
+    public String solve(final RearrangementPlan input) {
+        return RearrangementEngine.fromProperty()
+                                  .topCrates(input, Crane.CRATE_MOVER_9001);
     }
 }
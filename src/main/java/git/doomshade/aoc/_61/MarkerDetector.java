@@ -0,0 +1,133 @@
+package git.doomshade.aoc._61;
+
+import git.doomshade.aoc.shared.InputSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Detects markers of several window sizes at once in a datastream that is pushed to it piece by piece, e.g. read from a channel through a
+ * fixed buffer. Every marker is reported to the listener as soon as its last letter is pushed, so the answer comes before the rest of the
+ * stream is read and the length of the stream is not limited. The datastream ends with the first line break.
+ * <pre>{@code
+ * new MarkerDetector((window, end) -> System.out.println(window + ": " + end), false, PACKET_WINDOW, MESSAGE_WINDOW).detect(channel);
+ * }</pre>
+ */
+public final class MarkerDetector {
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+    /**
+     * Maps the whole input and searches it with {@link MarkerScanner#firstMarker(ByteBuffer, int)} instead of streaming it, which searches
+     * long inputs in parallel but needs the input to fit into a buffer.
+     */
+    public static final String MAPPED_PROPERTY = "aoc.datastream.mapped";
+
+    private final MarkerListener listener;
+    private final boolean reportAll;
+    private final MarkerScanner[] scanners;
+    private final boolean[] found;
+    private int pending;
+    private boolean finished;
+
+    /**
+     * @param reportAll whether to report every marker, not just the first one of every window size
+     * @param windows   the window sizes to detect markers of
+     */
+    public MarkerDetector(final MarkerListener listener, final boolean reportAll, final int... windows) {
+        if (windows.length == 0) {
+            throw new IllegalArgumentException("No window size given");
+        }
+        this.listener = listener;
+        this.reportAll = reportAll;
+        this.scanners = new MarkerScanner[windows.length];
+        for (int i = 0; i < windows.length; i++) {
+            scanners[i] = new MarkerScanner(windows[i]);
+        }
+        this.found = new boolean[windows.length];
+        this.pending = windows.length;
+    }
+
+    /**
+     * Streams the input until the first marker of the window size is found.
+     *
+     * @return the number of letters before the end of the first marker, or -1 if there is none
+     */
+    public static long firstMarker(final InputSource input, final int window) throws IOException {
+        if (Boolean.getBoolean(MAPPED_PROPERTY)) {
+            return MarkerScanner.firstMarker(input.buffer(), window);
+        }
+        final long[] end = {-1};
+        try (ReadableByteChannel channel = Channels.newChannel(input.open())) {
+            new MarkerDetector((w, position) -> end[0] = position, false, window).detect(channel);
+        }
+        return end[0];
+    }
+
+    /**
+     * Pushes the bytes from the position to the limit of the buffer, the position is moved past the consumed bytes.
+     *
+     * @return {@code false} once the detector does not need any more bytes, either the datastream ended or all the first markers were found
+     */
+    public boolean push(final ByteBuffer bytes) {
+        while (!finished && bytes.hasRemaining()) {
+            final byte b = bytes.get();
+            if (b == '\n' || b == '\r') {
+                finished = true;
+                break;
+            }
+            for (int i = 0; i < scanners.length; i++) {
+                if (found[i] && !reportAll) {
+                    continue;
+                }
+                if (scanners[i].push(b)) {
+                    if (!found[i]) {
+                        found[i] = true;
+                        pending--;
+                    }
+                    listener.onMarker(scanners[i].window(), scanners[i].position());
+                }
+            }
+            if (pending == 0 && !reportAll) {
+                finished = true;
+            }
+        }
+        return !finished;
+    }
+
+    /**
+     * Reads the channel through a {@link #DEFAULT_BUFFER_SIZE} buffer until the detector is {@link #isFinished() finished} or the channel
+     * ends.
+     */
+    public void detect(final ReadableByteChannel channel) throws IOException {
+        detect(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    public void detect(final ReadableByteChannel channel, final int bufferSize) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(bufferSize);
+        while (!finished && channel.read(buffer) >= 0) {
+            buffer.flip();
+            push(buffer);
+            buffer.clear();
+        }
+    }
+
+    /**
+     * @return whether the datastream ended or, unless all markers are reported, the first markers of all the window sizes were found
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Receives the detected markers.
+     */
+    @FunctionalInterface
+    public interface MarkerListener {
+        /**
+         * @param window the window size of the marker
+         * @param end    the number of letters before the end of the marker
+         */
+        void onMarker(int window, long end);
+    }
+}
@@ -0,0 +1,119 @@
+package git.doomshade.aoc._61;
+
+import git.doomshade.aoc.shared.parse.LineCursor;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Finds markers, windows of distinct letters, in a datastream of lowercase letters. The scanner counts the letters in the current window and
+ * how many of the letters occur in it more than once, both are updated on every byte, so a byte costs O(1) whatever the window size is.
+ * <p>The scanner keeps its state between calls, the datastream may be pushed to it in as many pieces as needed.</p>
+ */
+public final class MarkerScanner {
+    public static final int PACKET_WINDOW = 4;
+    public static final int MESSAGE_WINDOW = 14;
+    public static final int PARALLEL_THRESHOLD = 4 * ParallelMarkerSearch.DEFAULT_CHUNK_SIZE;
+
+    private static final int ALPHABET = 26;
+
+    private final int[] counts = new int[ALPHABET];
+    // the letters of the window, the oldest one at slot
+    private final byte[] window;
+    private int slot;
+    private long position;
+    private int duplicates;
+
+    /**
+     * @param window the number of distinct letters that make a marker
+     */
+    public MarkerScanner(final int window) {
+        if (window <= 0 || window > ALPHABET) {
+            throw new IllegalArgumentException("Window must be between 1 and " + ALPHABET + ": " + window);
+        }
+        this.window = new byte[window];
+    }
+
+    /**
+     * Finds the first marker in the first line of the buffer, lines of at least {@link #PARALLEL_THRESHOLD} bytes are searched by
+     * {@link ParallelMarkerSearch}.
+     *
+     * @return the number of letters before the end of the first marker, or -1 if there is none
+     */
+    public static int firstMarker(final ByteBuffer datastream, final int window) {
+        final LineCursor line = new LineCursor(datastream);
+        if (!line.next()) {
+            return -1;
+        }
+        final int end = line.length() >= PARALLEL_THRESHOLD
+                        ? ParallelMarkerSearch.find(datastream, line.start(), line.end(), window)
+                        : new MarkerScanner(window).scan(datastream, line.start(), line.end());
+        return end < 0 ? -1 : end - line.start();
+    }
+
+    public int window() {
+        return window.length;
+    }
+
+    /**
+     * @return the number of letters pushed since the start or the last {@link #reset()}
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * @return whether the last {@link #window()} letters are distinct
+     */
+    public boolean isMarker() {
+        return duplicates == 0 && position >= window.length;
+    }
+
+    /**
+     * Pushes the next letter of the datastream.
+     *
+     * @return whether the window now ends with a marker
+     */
+    public boolean push(final byte letter) {
+        if (position >= window.length && --counts[window[slot] - 'a'] == 1) {
+            duplicates--;
+        }
+        final int index = letter - 'a';
+        if (index < 0 || index >= ALPHABET) {
+            throw new IllegalStateException("Not a lowercase letter: " + (char) letter + " at " + position);
+        }
+        if (++counts[index] == 2) {
+            duplicates++;
+        }
+        window[slot] = letter;
+        if (++slot == window.length) {
+            slot = 0;
+        }
+        position++;
+        return isMarker();
+    }
+
+    /**
+     * Pushes the letters of the absolute range {@code [from, to)} of the buffer up to the first marker.
+     *
+     * @return the absolute index after the first marker, or -1 if the range has none
+     */
+    public int scan(final ByteBuffer buffer, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            if (push(buffer.get(i))) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Forgets all the letters pushed so far.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        slot = 0;
+        position = 0;
+        duplicates = 0;
+    }
+}
@@ -0,0 +1,66 @@
+package git.doomshade.aoc._61;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Searches a long datastream for its first marker on all the cores of the common pool. The stream is cut into chunks, each chunk looks for the
+ * first marker that <em>starts</em> in it, so it scans {@code window - 1} bytes into the following chunk. A marker found in a chunk is the lowest
+ * one unless an earlier chunk finds one as well, so the chunks after a found marker stop scanning and the lowest marker wins. The result is
+ * the same as the one of the sequential scan.
+ */
+public final class ParallelMarkerSearch {
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+    // how often a chunk checks whether an earlier chunk has already found a marker
+    private static final int CANCEL_CHECK_INTERVAL = 1 << 14;
+
+    private ParallelMarkerSearch() {
+    }
+
+    /**
+     * @return the absolute index after the first marker in {@code [from, to)}, or -1 if there is none
+     */
+    public static int find(final ByteBuffer buffer, final int from, final int to, final int window) {
+        return find(buffer, from, to, window, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param chunkSize the number of possible marker starts scanned by one task
+     *
+     * @return the absolute index after the first marker in {@code [from, to)}, or -1 if there is none
+     */
+    public static int find(final ByteBuffer buffer, final int from, final int to, final int window, final int chunkSize) {
+        final int chunks = (int) (((long) to - from + chunkSize - 1) / chunkSize);
+        final AtomicInteger lowest = new AtomicInteger(Integer.MAX_VALUE);
+        IntStream.range(0, chunks)
+                 .parallel()
+                 .forEach(chunk -> {
+                     final int start = from + chunk * chunkSize;
+                     final int end = (int) Math.min((long) start + chunkSize + window - 1, to);
+                     final int found = scanChunk(buffer, start, end, window, lowest);
+                     if (found >= 0) {
+                         lowest.accumulateAndGet(found, Math::min);
+                     }
+                 });
+        return lowest.get() == Integer.MAX_VALUE ? -1 : lowest.get();
+    }
+
+    private static int scanChunk(final ByteBuffer buffer, final int start, final int end, final int window, final AtomicInteger lowest) {
+        final MarkerScanner scanner = new MarkerScanner(window);
+        // no marker of this chunk can end before start + window
+        int i = start;
+        while (i < end) {
+            if (lowest.get() < start + window) {
+                return -1;
+            }
+            final int next = (int) Math.min((long) i + CANCEL_CHECK_INTERVAL, end);
+            final int found = scanner.scan(buffer, i, next);
+            if (found >= 0) {
+                return found;
+            }
+            i = next;
+        }
+        return -1;
+    }
+}
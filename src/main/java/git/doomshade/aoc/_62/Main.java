@@ -1,11 +1,11 @@
 package git.doomshade.aoc._62;
 
-import git.doomshade.aoc.shared.Util;
+import git.doomshade.aoc._61.MarkerDetector;
+import git.doomshade.aoc._61.MarkerScanner;
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.Solver;
 
 import java.io.IOException;
-import java.util.Deque;
-import java.util.LinkedList;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * <h2 id="part2">--- Part Two ---</h2><p>Your device's communication system is correctly detecting packets, but still isn't working. It looks like it also needs to look
@@ -21,60 +21,23 @@ import java.util.concurrent.atomic.AtomicInteger;
  * </ul>
  * <p><em>How many characters need to be processed before the first start-of-message marker is detected?</em></p>
  */
-public class Main implements Runnable {
-
-    public static final int CHARS_CHECKED = 14;
-
-    private static void setBit(char c, AtomicInteger bits) {
-        final int bit = 1 << (c - 'a');
-        bits.set(bits.get() | bit);
-    }
-
-    private static void unsetBit(char c, AtomicInteger bits) {
-        final int bit = 1 << (c - 'a');
-        bits.set(bits.get() & ~bit);
+public class Main implements Solver<InputSource, Long> {
+    @Override
+    public InputSource parse(final InputSource input) {
+        return input;
     }
 
-    private static boolean isSetBit(char c, AtomicInteger bits) {
-        final int bit = 1 << (c - 'a');
-        return (bits.get() & bit) != 0;
+    @Override
+    public boolean streaming() {
+        return true;
     }
 
     @Override
-    public void run() {
+    public Long solve(final InputSource input) {
         try {
-            final Deque<Character> deque = new LinkedList<>();
-            final String input = Util.readStringInput(getClass(), "input.txt")
-                                     .get(0);
-            for (int j = 0; j < CHARS_CHECKED; j++) {
-                final char c = input.charAt(j);
-                deque.add(c);
-            }
-
-            for (int j = CHARS_CHECKED; j < input.length() && !foundSolution(deque, j); j++) {
-                deque.removeFirst();
-                deque.addLast(input.charAt(j));
-            }
+            return MarkerDetector.firstMarker(input, MarkerScanner.MESSAGE_WINDOW);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
-
-    private static boolean foundSolution(final Deque<Character> deque, int position) {
-        final AtomicInteger bits = new AtomicInteger();
-        boolean allUnique = true;
-        for (char c : deque) {
-            if (isSetBit(c, bits)) {
-                allUnique = false;
-                break;
-            }
-            setBit(c, bits);
-        }
-        if (allUnique) {
-            System.out.println(position);
-            return true;
-        }
-        return false;
-    }
-
 }
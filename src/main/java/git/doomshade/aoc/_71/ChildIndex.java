@@ -0,0 +1,82 @@
+package git.doomshade.aoc._71;
+
+import java.util.Arrays;
+
+/**
+ * The subdirectories of all the directories of a {@link FileTree} by their parent and interned name id, an open-addressing table with linear
+ * probing.
+ */
+final class ChildIndex {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final long EMPTY = -1;
+
+    // parent << 32 | name id of the child in the slot
+    private long[] keys = newKeys(INITIAL_CAPACITY);
+    private int[] values = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * @return the subdirectory of the parent with the name, or -1 if there is none
+     */
+    int get(final int parent, final int nameId) {
+        final long key = key(parent, nameId);
+        final int mask = keys.length - 1;
+        for (int slot = hash(key) & mask; keys[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+        return -1;
+    }
+
+    void put(final int parent, final int nameId, final int child) {
+        if (2 * (size + 1) > keys.length) {
+            grow();
+        }
+        if (insert(keys, values, key(parent, nameId), child)) {
+            size++;
+        }
+    }
+
+    private void grow() {
+        final long[] newKeys = newKeys(keys.length * 2);
+        final int[] newValues = new int[keys.length * 2];
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY) {
+                insert(newKeys, newValues, keys[slot], values[slot]);
+            }
+        }
+        keys = newKeys;
+        values = newValues;
+    }
+
+    /**
+     * @return whether the key was not in the table yet
+     */
+    private static boolean insert(final long[] keys, final int[] values, final long key, final int child) {
+        final int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        final boolean added = keys[slot] == EMPTY;
+        keys[slot] = key;
+        values[slot] = child;
+        return added;
+    }
+
+    private static long[] newKeys(final int capacity) {
+        final long[] keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        return keys;
+    }
+
+    private static long key(final int parent, final int nameId) {
+        return (long) parent << 32 | nameId;
+    }
+
+    private static int hash(final long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
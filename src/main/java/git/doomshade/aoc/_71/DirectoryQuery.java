@@ -0,0 +1,130 @@
+package git.doomshade.aoc._71;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+/**
+ * Questions about the sizes of the directories of a {@link FileTree}. The sizes are sorted once with their prefix sums, after that every
+ * question is a binary search, so any number of disk budgets can be tried against one parsed transcript.
+ */
+public final class DirectoryQuery {
+    private final long[] sizes;
+    // prefixSums[i] is the sum of the i smallest sizes
+    private final long[] prefixSums;
+    private final long totalSize;
+
+    private DirectoryQuery(final long[] sizes, final long totalSize) {
+        this.sizes = sizes;
+        this.totalSize = totalSize;
+        this.prefixSums = new long[sizes.length + 1];
+        for (int i = 0; i < sizes.length; i++) {
+            prefixSums[i + 1] = prefixSums[i] + sizes[i];
+        }
+    }
+
+    public static DirectoryQuery of(final FileTree tree) {
+        final long[] sizes = tree.directorySizes();
+        Arrays.sort(sizes);
+        return new DirectoryQuery(sizes, tree.size(FileTree.ROOT));
+    }
+
+    /**
+     * @return the number of directories including the root
+     */
+    public int directoryCount() {
+        return sizes.length;
+    }
+
+    /**
+     * @return the size of the root directory
+     */
+    public long totalSize() {
+        return totalSize;
+    }
+
+    /**
+     * @return the sum of the sizes of all the directories of at most the size
+     */
+    public long sumAtMost(final long maxSize) {
+        return prefixSums[upperBound(maxSize)];
+    }
+
+    /**
+     * @return the size of the smallest directory of at least the size, empty if all the directories are smaller
+     */
+    public OptionalLong smallestAtLeast(final long minSize) {
+        final int i = lowerBound(minSize);
+        return i < sizes.length ? OptionalLong.of(sizes[i]) : OptionalLong.empty();
+    }
+
+    /**
+     * @param diskSize       the size of the disk
+     * @param requiredUnused the unused space needed
+     *
+     * @return the size of the smallest directory that frees enough space when deleted, empty if even deleting the root is not enough
+     */
+    public OptionalLong smallestToFree(final long diskSize, final long requiredUnused) {
+        return smallestAtLeast(requiredUnused - (diskSize - totalSize));
+    }
+
+    /**
+     * @return the sizes of the {@code k} largest directories in descending order, fewer if there are not that many directories
+     */
+    public long[] largest(final int k) {
+        final int count = Math.min(k, sizes.length);
+        final long[] largest = new long[count];
+        for (int i = 0; i < count; i++) {
+            largest[i] = sizes[sizes.length - 1 - i];
+        }
+        return largest;
+    }
+
+    /**
+     * @return the sizes of the directories between the sizes, both inclusive, in ascending order
+     */
+    public long[] between(final long minSize, final long maxSize) {
+        final int from = lowerBound(minSize);
+        return Arrays.copyOfRange(sizes, from, Math.max(from, upperBound(maxSize)));
+    }
+
+    /**
+     * @return the number of directories between the sizes, both inclusive
+     */
+    public int countBetween(final long minSize, final long maxSize) {
+        return Math.max(0, upperBound(maxSize) - lowerBound(minSize));
+    }
+
+    /**
+     * @return the index of the first size not less than the value
+     */
+    private int lowerBound(final long value) {
+        int low = 0;
+        int high = sizes.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (sizes[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return the index of the first size greater than the value
+     */
+    private int upperBound(final long value) {
+        int low = 0;
+        int high = sizes.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (sizes[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
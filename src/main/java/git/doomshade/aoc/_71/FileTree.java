@@ -0,0 +1,162 @@
+package git.doomshade.aoc._71;
+
+import git.doomshade.aoc.shared.parse.NameTable;
+
+import java.util.Arrays;
+
+/**
+ * The files and directories of the filesystem in an arena: a node is an index into parallel arrays of its parent, first child, next sibling,
+ * interned name and size, so a node costs 25 bytes and no object. Children are always added after their parents, a node index is greater
+ * than the index of its parent.
+ * <p>Every directory keeps the total size of its files, a new file adds its size to its directory and all the ancestors, so the sizes are
+ * up to date while the tree is being built and a query costs no summing.</p>
+ */
+public final class FileTree {
+    public static final int ROOT = 0;
+    public static final int NONE = -1;
+
+    private static final byte DIRECTORY = 1;
+    private static final byte LISTED = 2;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final NameTable names;
+    private final ChildIndex subdirectories = new ChildIndex();
+    private int[] parent = new int[INITIAL_CAPACITY];
+    private int[] firstChild = new int[INITIAL_CAPACITY];
+    private int[] nextSibling = new int[INITIAL_CAPACITY];
+    private int[] name = new int[INITIAL_CAPACITY];
+    // the size of a file or the total size of a directory
+    private long[] size = new long[INITIAL_CAPACITY];
+    private byte[] flags = new byte[INITIAL_CAPACITY];
+    private int nodeCount;
+
+    /**
+     * @param rootName the id of the name of the root directory in the name table
+     */
+    public FileTree(final NameTable names, final int rootName) {
+        this.names = names;
+        add(ROOT, rootName, 0, DIRECTORY);
+    }
+
+    public NameTable names() {
+        return names;
+    }
+
+    /**
+     * @return the number of files and directories including the root
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    public boolean isDirectory(final int node) {
+        return (flags[node] & DIRECTORY) != 0;
+    }
+
+    /**
+     * @return the parent directory, the root is its own parent
+     */
+    public int parent(final int node) {
+        return parent[node];
+    }
+
+    /**
+     * @return the first child of a directory, or {@link #NONE}
+     */
+    public int firstChild(final int node) {
+        return firstChild[node];
+    }
+
+    /**
+     * @return the next child of the parent, or {@link #NONE}
+     */
+    public int nextSibling(final int node) {
+        return nextSibling[node];
+    }
+
+    public int nameId(final int node) {
+        return name[node];
+    }
+
+    public String name(final int node) {
+        return names.name(name[node]);
+    }
+
+    /**
+     * @return the subdirectory with the name, or {@link #NONE} if there is none
+     */
+    public int subdirectory(final int dir, final int nameId) {
+        return subdirectories.get(dir, nameId);
+    }
+
+    /**
+     * @return the size of a file, or the total size of all the files in a directory
+     */
+    public long size(final int node) {
+        return size[node];
+    }
+
+    /**
+     * @return the sizes of all the directories including the root, the root comes first
+     */
+    public long[] directorySizes() {
+        int count = 0;
+        final long[] sizes = new long[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            if ((flags[node] & DIRECTORY) != 0) {
+                sizes[count++] = size[node];
+            }
+        }
+        return Arrays.copyOf(sizes, count);
+    }
+
+    boolean isListed(final int dir) {
+        return (flags[dir] & LISTED) != 0;
+    }
+
+    void markListed(final int dir) {
+        flags[dir] |= LISTED;
+    }
+
+    int addDirectory(final int dir, final int nameId) {
+        final int node = add(dir, nameId, 0, DIRECTORY);
+        subdirectories.put(dir, nameId, node);
+        return node;
+    }
+
+    int addFile(final int dir, final int nameId, final long fileSize) {
+        final int node = add(dir, nameId, fileSize, (byte) 0);
+        int ancestor = dir;
+        while (ancestor != ROOT) {
+            size[ancestor] += fileSize;
+            ancestor = parent[ancestor];
+        }
+        size[ROOT] += fileSize;
+        return node;
+    }
+
+    private int add(final int dir, final int nameId, final long nodeSize, final byte nodeFlags) {
+        if (nodeCount == parent.length) {
+            final int capacity = 2 * nodeCount;
+            parent = Arrays.copyOf(parent, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+            name = Arrays.copyOf(name, capacity);
+            size = Arrays.copyOf(size, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+        }
+        final int node = nodeCount++;
+        parent[node] = dir;
+        firstChild[node] = NONE;
+        name[node] = nameId;
+        size[node] = nodeSize;
+        flags[node] = nodeFlags;
+        if (node == ROOT) {
+            nextSibling[node] = NONE;
+        } else {
+            nextSibling[node] = firstChild[dir];
+            firstChild[dir] = node;
+        }
+        return node;
+    }
+}
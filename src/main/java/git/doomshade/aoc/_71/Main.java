@@ -1,10 +1,9 @@
 package git.doomshade.aoc._71;
 
-import git.doomshade.aoc.shared.Util;
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.Solver;
 
 import java.io.IOException;
-import java.util.*;
-import java.util.function.BiConsumer;
 
 /**
  * <h2>--- Day 7: No Space Left On Device ---</h2><p>You can hear birds chirping and raindrops hitting leaves as the expedition proceeds. Occasionally, you can even hear
@@ -93,153 +92,17 @@ import java.util.function.BiConsumer;
  * files more than once!)</p>
  * <p>Find all of the directories with a total size of at most 100000. <em>What is the sum of the total sizes of those directories?</em></p>
  */
-public class Main implements Runnable {
-    /**
-     * Parameters biconsumer are: current FS instance and arguments
-     */
-    private static final Map<String, BiConsumer<VirtualFS, String[]>> COMMANDS = new HashMap<>();
+public class Main implements Solver<DirectoryQuery, Long> {
     public static final int MAX_ACCEPTED_SIZE = 100_000;
 
-    static {
-        COMMANDS.put("cd", (fs, args) -> {
-            final String dir = args[0];
-            if (dir.equals("/")) {
-                fs.cwd = fs.root;
-                return;
-            }
-
-            if (dir.equals("..")) {
-                fs.cwd = fs.cwd.parent;
-                return;
-            }
-
-            for (VirtualFile child : fs.cwd.children) {
-                if (child.directory && child.name.equals(dir)) {
-                    fs.cwd = child;
-                    return;
-                }
-            }
-        });
-
-        COMMANDS.put("ls", (fs, args) -> {
-            if (fs.cwd.initialized) {
-                return;
-            }
-
-            for (final String singleFile : args) {
-                final String[] singleFileArgs = singleFile.split(" ");
-                final String fileName = singleFileArgs[1];
-                if (singleFileArgs[0].equals("dir")) {
-                    fs.cwd.children.add(new VirtualFile(-1, fileName, true, fs.cwd));
-                } else {
-                    final int size = Integer.parseInt(singleFileArgs[0]);
-                    fs.cwd.children.add(new VirtualFile(size, fileName, false, fs.cwd));
-                }
-                fs.cwd.initialized = true;
-            }
-        });
-    }
-
-    private static class VirtualFS {
-        private final VirtualFile root = new VirtualFile(-1, "/", true, null);
-        private VirtualFile cwd = root;
-    }
-
-    private static class VirtualFile {
-        private final int size;
-        private final String name;
-        private final boolean directory;
-        private final List<VirtualFile> children = new ArrayList<>();
-        private VirtualFile parent;
-
-        private boolean initialized = false;
-
-        private VirtualFile(final int size, final String name, final boolean directory, final VirtualFile parent) {
-            this.size = size;
-            this.name = name;
-            this.directory = directory;
-            this.parent = parent;
-        }
-
-        public void addChildren(Collection<? extends VirtualFile> children) {
-            this.children.addAll(children);
-        }
-
-        public int getSize() {
-            // if it's a regular file just return its size
-            if (!directory) {
-                return size;
-            }
-            // if it's a directory compute the size of the children
-            return children.stream()
-                           .mapToInt(VirtualFile::getSize)
-                           .sum();
-        }
-    }
-
     @Override
-    public void run() {
-        try {
-            final List<String> input = Util.readStringInput(getClass(), "input.txt");
-            final VirtualFS fs = new VirtualFS();
-            fs.root.parent = fs.root;
-
-            for (int i = 0; i < input.size(); i++) {
-                final String s = input.get(i);
-                final String[] split = s.split(" ");
-                final String cmd = split[1];
-//                System.out.printf("Found command: \"%s\"%n", cmd);
-                final String[] args;
-
-                if (cmd.equals("cd")) {
-                    args = new String[] {split[2]};
-                } else {
-                    final List<String> temp = new ArrayList<>();
-                    for (int j = i + 1; j < input.size(); j++) {
-                        final String lsLine = input.get(j);
-                        if (lsLine.startsWith("$")) {
-                            break;
-                        }
-                        temp.add(lsLine);
-                        i++;
-                    }
-                    args = temp.toArray(new String[0]);
-                }
-//                System.out.printf("Args: \"%s\"%n", Arrays.toString(args));
-                COMMANDS.get(cmd)
-                        .accept(fs, args);
-//                System.out.printf("Cwd: %s%n%n", fs.cwd.name);
-            }
-
-
-            sumSize(fs.root, "");
-            System.out.println(size);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    public DirectoryQuery parse(final InputSource input) throws IOException {
+        return DirectoryQuery.of(VirtualFS.replay(input)
+                                          .tree());
     }
 
-    private static int size = 0;
-
-    private static void sumSize(VirtualFile file, String indent) {
-        System.out.printf("%s- %s (%s)%n", indent, file.name, file.directory ? "dir, " + file.getSize() : "file, size=" + file.size);
-        if (file.directory) {
-            // calculate the sum of the current dir
-            // and add it to the result if the size is within limits
-            final int temp = file.getSize();
-            if (temp <= MAX_ACCEPTED_SIZE) {
-                System.out.printf("Adding %s (%d)%n", file.name, temp);
-                size += temp;
-            }
-
-            // loop over other directories
-            // and call their sum recursively
-            // if the dir sum is <= accepted size, add it to the result
-            for (VirtualFile child : file.children) {
-                if (child.directory) {
-                    sumSize(child, indent + "\t");
-                }
-            }
-        }
+    @Override
+    public Long solve(final DirectoryQuery input) {
+        return input.sumAtMost(MAX_ACCEPTED_SIZE);
     }
 }
@@ -0,0 +1,39 @@
+package git.doomshade.aoc._71;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Receives the events of a {@link TranscriptParser}. Names are passed as absolute byte ranges of a buffer that is reused for the following
+ * lines, they have to be copied or interned if they are needed after the call.
+ */
+public interface TranscriptListener {
+    /**
+     * {@code $ cd /}
+     */
+    void cdRoot();
+
+    /**
+     * {@code $ cd ..}
+     */
+    void cdUp();
+
+    /**
+     * {@code $ cd name}
+     */
+    void cd(ByteBuffer buffer, int from, int to);
+
+    /**
+     * {@code $ ls}, the entries of the listing follow.
+     */
+    void ls();
+
+    /**
+     * {@code dir name}
+     */
+    void directory(ByteBuffer buffer, int from, int to);
+
+    /**
+     * {@code size name}
+     */
+    void file(ByteBuffer buffer, int from, int to, long size);
+}
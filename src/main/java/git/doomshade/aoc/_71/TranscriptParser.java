@@ -0,0 +1,76 @@
+package git.doomshade.aoc._71;
+
+import git.doomshade.aoc.shared.parse.AsciiScanner;
+import git.doomshade.aoc.shared.parse.ByteRange;
+import git.doomshade.aoc.shared.parse.FieldCursor;
+import git.doomshade.aoc.shared.parse.LineReader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads a terminal transcript line by line straight from the bytes and reports every command and every listed entry to a
+ * {@link TranscriptListener}. Nothing is buffered beyond the current line, so transcripts of any length are read in bounded memory.
+ */
+public final class TranscriptParser {
+    private static final byte[] PROMPT = AsciiScanner.token("$");
+    private static final byte[] CD = AsciiScanner.token("cd");
+    private static final byte[] LS = AsciiScanner.token("ls");
+    private static final byte[] DIR = AsciiScanner.token("dir");
+    private static final byte[] ROOT = AsciiScanner.token("/");
+    private static final byte[] UP = AsciiScanner.token("..");
+
+    private final FieldCursor fields = new FieldCursor(ByteBuffer.allocate(0), (byte) ' ');
+    private final AsciiScanner scanner = new AsciiScanner();
+    private final TranscriptListener listener;
+
+    public TranscriptParser(final TranscriptListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Parses all the lines of the reader.
+     */
+    public void parse(final LineReader line) throws IOException {
+        while (line.next()) {
+            accept(line);
+        }
+    }
+
+    /**
+     * Parses a single line of the transcript, empty lines are skipped.
+     */
+    public void accept(final ByteRange line) {
+        if (line.isEmpty()) {
+            return;
+        }
+        final ByteBuffer buffer = line.buffer();
+        fields.reset(line)
+              .nextField();
+        if (fields.contentEquals(PROMPT)) {
+            if (fields.nextField()
+                      .contentEquals(CD)) {
+                fields.nextField();
+                if (fields.contentEquals(ROOT)) {
+                    listener.cdRoot();
+                } else if (fields.contentEquals(UP)) {
+                    listener.cdUp();
+                } else {
+                    listener.cd(buffer, fields.start(), fields.end());
+                }
+            } else if (fields.contentEquals(LS)) {
+                listener.ls();
+            } else {
+                throw new IllegalStateException("Unknown command \"" + fields + "\"");
+            }
+        } else if (fields.contentEquals(DIR)) {
+            fields.nextField();
+            listener.directory(buffer, fields.start(), fields.end());
+        } else {
+            final long size = scanner.reset(fields)
+                                     .readLong();
+            fields.nextField();
+            listener.file(buffer, fields.start(), fields.end(), size);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package git.doomshade.aoc._71;
+
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.parse.AsciiScanner;
+import git.doomshade.aoc.shared.parse.LineReader;
+import git.doomshade.aoc.shared.parse.NameTable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * The filesystem rebuilt from the terminal transcript. Shared by both parts.
+ * <p>All the names are interned in a {@link NameTable} straight from the bytes of the transcript and the subdirectories are indexed by their
+ * parent and name id, so a {@code cd} is a hash lookup whatever the size of the directory. The files and directories are kept in a
+ * {@link FileTree} arena, which is built from the events of a {@link TranscriptParser} as the transcript is streamed.</p>
+ */
+public final class VirtualFS {
+    private final NameTable names = new NameTable();
+    private final int rootName = names.intern(ByteBuffer.wrap(AsciiScanner.token("/")), 0, 1);
+    private final FileTree tree = new FileTree(names, rootName);
+
+    /**
+     * Replays the {@code cd} and {@code ls} commands of the transcript as it is streamed. Directories listed for the second time are not
+     * changed.
+     */
+    public static VirtualFS replay(final InputSource transcript) throws IOException {
+        final VirtualFS fs = new VirtualFS();
+        try (LineReader line = transcript.lines()) {
+            new TranscriptParser(fs.new Builder()).parse(line);
+        }
+        return fs;
+    }
+
+    public FileTree tree() {
+        return tree;
+    }
+
+    public NameTable names() {
+        return names;
+    }
+
+    /**
+     * Builds the tree from the events of the transcript.
+     */
+    private final class Builder implements TranscriptListener {
+        private int cwd = FileTree.ROOT;
+        // whether the entries are of a directory listed for the first time
+        private boolean listing = false;
+
+        @Override
+        public void cdRoot() {
+            listing = false;
+            cwd = FileTree.ROOT;
+        }
+
+        @Override
+        public void cdUp() {
+            listing = false;
+            cwd = tree.parent(cwd);
+        }
+
+        @Override
+        public void cd(final ByteBuffer buffer, final int from, final int to) {
+            listing = false;
+            final int dir = tree.subdirectory(cwd, names.intern(buffer, from, to));
+            if (dir != FileTree.NONE) {
+                cwd = dir;
+            }
+        }
+
+        @Override
+        public void ls() {
+            listing = !tree.isListed(cwd);
+            tree.markListed(cwd);
+        }
+
+        @Override
+        public void directory(final ByteBuffer buffer, final int from, final int to) {
+            if (listing) {
+                tree.addDirectory(cwd, names.intern(buffer, from, to));
+            }
+        }
+
+        @Override
+        public void file(final ByteBuffer buffer, final int from, final int to, final long size) {
+            if (listing) {
+                tree.addFile(cwd, names.intern(buffer, from, to), size);
+            }
+        }
+    }
+}
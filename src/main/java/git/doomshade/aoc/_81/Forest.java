@@ -0,0 +1,156 @@
+package git.doomshade.aoc._81;
+
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.grid.ByteGrid;
+import git.doomshade.aoc.shared.grid.RowBands;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The tree heights of the day 8 input in a row-major {@link ByteGrid} without padding. Shared by both parts.
+ */
+public final class Forest {
+    public static final int MAX_HEIGHT = 9;
+    /**
+     * The number of trees from which the forest is swept in parallel.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 20;
+
+    private final ByteGrid heights;
+    private final int rows;
+    private final int cols;
+
+    private Forest(final ByteGrid heights) {
+        this.heights = heights;
+        this.rows = heights.rows();
+        this.cols = heights.cols();
+    }
+
+    public static Forest parse(final InputSource input) throws IOException {
+        final ByteGrid heights = ByteGrid.parse(input, 0, (byte) 0);
+        heights.replaceAll(digit -> {
+            final int height = digit - '0';
+            if (height < 0 || height > MAX_HEIGHT) {
+                throw new IllegalStateException("Invalid height '" + (char) digit + "'");
+            }
+            return height;
+        });
+        return new Forest(heights);
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    public int height(final int row, final int col) {
+        return heights.get(row, col);
+    }
+
+    /**
+     * @return the forest with the rows and the columns swapped, the columns of this forest are the rows of the copy
+     */
+    public Forest transposed() {
+        return new Forest(heights.transposed());
+    }
+
+    /**
+     * Counts the trees visible from outside the grid, in parallel for forests of at least {@link #PARALLEL_THRESHOLD} trees.
+     */
+    public int visibleCount() {
+        return visibleCount(rows * cols >= PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Counts the trees visible from outside the grid. A tree is visible from a side if it is taller than the running maximum of the trees
+     * between it and the edge, so four sweeps keeping the maxima decide all the trees, O(rows * cols) in total. The vertical sweeps keep a
+     * maximum per column and run row by row, so all the sweeps read the grid in memory order.
+     * <p>In parallel the horizontal sweeps run on {@link RowBands bands} of rows and the vertical ones on bands of the rows of the
+     * {@link #transposed() transposed} forest, so no two workers write to the same part of the memory. The two halves are combined in square
+     * tiles. The count is the same either way.</p>
+     *
+     * @param parallel whether to sweep the bands on the common pool
+     */
+    public int visibleCount(final boolean parallel) {
+        if (parallel) {
+            return visibleCountParallel();
+        }
+        final byte[] visible = new byte[rows * cols];
+        sweepRows(visible, 0, rows);
+
+        final int[] columnMax = new int[cols];
+        // from the top
+        Arrays.fill(columnMax, -1);
+        for (int row = 0; row < rows; row++) {
+            sweepRow(visible, columnMax, row * cols);
+        }
+        // from the bottom
+        Arrays.fill(columnMax, -1);
+        for (int row = rows - 1; row >= 0; row--) {
+            sweepRow(visible, columnMax, row * cols);
+        }
+
+        int count = 0;
+        for (final byte v : visible) {
+            count += v;
+        }
+        return count;
+    }
+
+    private int visibleCountParallel() {
+        final byte[] horizontal = new byte[rows * cols];
+        RowBands.forEach(rows, (from, to) -> sweepRows(horizontal, from, to));
+        // vertical[col * rows + row]
+        final byte[] vertical = new byte[rows * cols];
+        final Forest transposed = transposed();
+        RowBands.forEach(cols, (from, to) -> transposed.sweepRows(vertical, from, to));
+
+        return (int) RowBands.reduce(rows, (fromRow, toRow) -> {
+            long count = 0;
+            for (int tileCol = 0; tileCol < cols; tileCol += RowBands.BAND_ROWS) {
+                final int toCol = Math.min(tileCol + RowBands.BAND_ROWS, cols);
+                for (int row = fromRow; row < toRow; row++) {
+                    for (int col = tileCol; col < toCol; col++) {
+                        count += horizontal[row * cols + col] | vertical[col * rows + row];
+                    }
+                }
+            }
+            return count;
+        }, 0, Long::sum);
+    }
+
+    /**
+     * Marks the trees visible from the left or the right in the rows.
+     */
+    private void sweepRows(final byte[] visible, final int fromRow, final int toRow) {
+        for (int row = fromRow; row < toRow; row++) {
+            final int offset = row * cols;
+            // from the left
+            int max = -1;
+            for (int i = offset; i < offset + cols; i++) {
+                final int height = heights.get(i);
+                visible[i] |= (byte) ((max - height) >>> 31);
+                max = Math.max(max, height);
+            }
+            // from the right
+            max = -1;
+            for (int i = offset + cols - 1; i >= offset; i--) {
+                final int height = heights.get(i);
+                visible[i] |= (byte) ((max - height) >>> 31);
+                max = Math.max(max, height);
+            }
+        }
+    }
+
+    private void sweepRow(final byte[] visible, final int[] columnMax, final int offset) {
+        for (int col = 0; col < cols; col++) {
+            final int height = heights.get(offset + col);
+            visible[offset + col] |= (byte) ((columnMax[col] - height) >>> 31);
+            columnMax[col] = Math.max(columnMax[col], height);
+        }
+    }
+}
@@ -1,10 +1,9 @@
 package git.doomshade.aoc._81;
 
-import git.doomshade.aoc.shared.Util;
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.Solver;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
 
 /**
  * <h2>--- Day 8: Treetop Tree House ---</h2><p>The expedition comes across a peculiar patch of tall trees all planted carefully in a grid. The Elves explain that a
@@ -41,99 +40,14 @@ import java.util.List;
  * <p>With 16 trees visible on the edge and another 5 visible in the interior, a total of <code><em>21</em></code> trees are visible in this arrangement.</p>
  * <p>Consider your map; <em>how many trees are visible from outside the grid?</em></p>
  */
-public class Main implements Runnable {
+public class Main implements Solver<Forest, Integer> {
     @Override
-    public void run() {
-        try {
-            final List<String> input = Util.readStringInput(getClass(), "input.txt");
-            int origRows = input.size();
-            int origCols = input.get(0)
-                                .length();
-            // [y][x]
-            final int[][] grid = new int[origRows + 2][origCols + 2];
-            for (int row = 1; row < origRows + 1; row++) {
-                final String strRow = input.get(row - 1);
-                for (int col = 1; col < origCols + 1; col++) {
-                    grid[row][col] = strRow.charAt(col - 1) - '0';
-                }
-            }
-            for (int row = 0; row < grid.length; row++) {
-                grid[row][0] = -1;
-                grid[row][grid[0].length - 1] = -1;
-            }
-            for (int col = 0; col < grid[0].length; col++) {
-                grid[0][col] = -1;
-                grid[grid.length - 1][col] = -1;
-            }
-
-            for (int[] row : grid) {
-                System.out.println(Arrays.toString(row));
-            }
-            int result = 0;
-
-            for (int row = 1; row < grid.length - 1; row++) {
-                for (int col = 1; col < grid[0].length - 1; col++) {
-//                    System.out.printf("[%d][%d]%n", row, col);
-                    int minSize = grid[row][col];
-                    // left right top bottom
-                    byte visibility = 0b1111;
-
-                    // go left
-                    for (int left = col - 1; left >= 0; left--) {
-                        final int lCell = grid[row][left];
-//                        System.out.printf("Comparing %d >= %d%n", lCell, minSize);
-                        if (lCell >= minSize) {
-//                            System.out.println("Left not visible");
-                            visibility ^= 0b1000;
-                            break;
-                        }
-                    }
-//                    System.out.println("Left done\n");
-
-                    for (int right = col + 1; right < grid.length; right++) {
-                        final int rCell = grid[row][right];
-//                        System.out.printf("Comparing %d >= %d%n", rCell, minSize);
-                        if (rCell >= minSize) {
-//                            System.out.println("Right not visible");
-                            visibility ^= 0b0100;
-                            break;
-                        }
-                    }
-//                    System.out.println("Right done\n");
-
-                    for (int top = row - 1; top >= 0; top--) {
-                        final int tCell = grid[top][col];
-//                        System.out.printf("Comparing %d >= %d%n", tCell, minSize);
-                        if (tCell >= minSize) {
-//                            System.out.println("Top not visible");
-                            visibility ^= 0b0010;
-                            break;
-                        }
-                    }
-//                    System.out.println("Top done\n");
-
-                    for (int bottom = row + 1; bottom < grid.length; bottom++) {
-                        final int bCell = grid[bottom][col];
-//                        System.out.printf("Comparing %d >= %d%n", bCell, minSize);
-                        if (bCell >= minSize) {
-//                            System.out.println("Bottom not visible");
-                            visibility ^= 0b0001;
-                            break;
-                        }
-                    }
-//                    System.out.println("Bottom done\n");
-//                    System.out.println(Integer.toBinaryString(visibility));
-//                    System.out.println("\n");
-                    if (visibility != 0) {
-//                        System.out.printf("[%d][%d] is visible%n", row, col);
-                        result++;
-                    }
-                }
-            }
-            System.out.println(result);
+    public Forest parse(final InputSource input) throws IOException {
+        return Forest.parse(input);
+    }
 
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    @Override
+    public Integer solve(final Forest input) {
+        return input.visibleCount();
     }
 }
@@ -1,10 +1,10 @@
 package git.doomshade.aoc._82;
 
-import git.doomshade.aoc.shared.Util;
+import git.doomshade.aoc._81.Forest;
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.Solver;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
 
 /**
  * <h2 id="part2">--- Part Two ---</h2><p>Content with the amount of tree cover available, the Elves just need to know the best spot to build their tree house: they would
@@ -47,84 +47,15 @@ import java.util.List;
  * <p>This tree's scenic score is <code><em>8</em></code> (<code>2 * 2 * 1 * 2</code>); this is the ideal spot for the tree house.</p>
  * <p>Consider each tree on your map. <em>What is the highest scenic score possible for any tree?</em></p>
  */
-public class Main implements Runnable {
+public class Main implements Solver<Forest, Long> {
     @Override
-    public void run() {
-        try {
-            final List<String> input = Util.readStringInput(getClass(), "input.txt");
-            int origRows = input.size();
-            int origCols = input.get(0)
-                                .length();
-            // [y][x]
-            final int[][] grid = new int[origRows][origCols];
-            for (int row = 0; row < origRows; row++) {
-                final String strRow = input.get(row);
-                for (int col = 0; col < origCols; col++) {
-                    grid[row][col] = strRow.charAt(col) - '0';
-                }
-            }
-
-            for (int[] row : grid) {
-                System.out.println(Arrays.toString(row));
-            }
-            int result = Integer.MIN_VALUE;
-
-            for (int row = 0; row < grid.length - 1; row++) {
-                for (int col = 0; col < grid[0].length - 1; col++) {
-                    int minSize = grid[row][col];
-                    int[] multipliers = new int[4];
-
-                    int count = 0;
-                    for (int left = col - 1; left >= 0; left--) {
-                        count++;
-                        final int lCell = grid[row][left];
-                        if (lCell >= minSize) {
-                            break;
-                        }
-                    }
-                    multipliers[0] = count;
-                    count = 0;
-
-                    for (int right = col + 1; right < grid.length; right++) {
-                        count++;
-                        final int rCell = grid[row][right];
-                        if (rCell >= minSize) {
-                            break;
-                        }
-                    }
-                    multipliers[1] = count;
-                    count = 0;
-
-                    for (int top = row - 1; top >= 0; top--) {
-                        count++;
-                        final int tCell = grid[top][col];
-                        if (tCell >= minSize) {
-                            break;
-                        }
-                    }
-                    multipliers[2] = count;
-                    count = 0;
-
-                    for (int bottom = row + 1; bottom < grid.length; bottom++) {
-                        count++;
-                        final int bCell = grid[bottom][col];
-                        if (bCell >= minSize) {
-                            break;
-                        }
-                    }
-                    multipliers[3] = count;
-                    final int scenicScore = Arrays.stream(multipliers)
-                                                  .reduce(1, (left, right) -> left * right);
-                    System.out.printf("Scenic score for [%d, %d]: %d (%s)%n", row, col, scenicScore, Arrays.toString(multipliers));
-                    if (result < scenicScore) {
-                        result = scenicScore;
-                    }
-                }
-            }
-            System.out.println(result);
+    public Forest parse(final InputSource input) throws IOException {
+        return Forest.parse(input);
+    }
 
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    @Override
+    public Long solve(final Forest input) {
+        return ScenicScores.of(input)
+                           .max();
     }
 }
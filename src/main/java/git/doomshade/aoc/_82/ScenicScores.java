@@ -0,0 +1,311 @@
+package git.doomshade.aoc._82;
+
+import git.doomshade.aoc._81.Forest;
+import git.doomshade.aoc.shared.TopK;
+import git.doomshade.aoc.shared.grid.RowBands;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The scenic scores of the trees of a {@link Forest}. The viewing distances come from monotonic stacks: walking towards a side, a stack
+ * keeps the trees that can still block the view of the next ones, strictly decreasing in height, so it never holds more than ten trees and
+ * every tree is pushed once per direction, O(rows * cols) for the whole grid.
+ * <p>The forest is swept row by row from the top with a stack per column. The trees on a column stack are the ones whose view down is not
+ * blocked yet, each kept with the product of its other three distances, so a tree is scored as soon as a tree below pops it off the stack.
+ * Nothing is stored per tree unless the scores themselves are asked for.</p>
+ */
+public final class ScenicScores {
+    private static final int STACK_DEPTH = Forest.MAX_HEIGHT + 1;
+    private static final int HEIGHTS = Forest.MAX_HEIGHT + 1;
+    private static final int BANDS_PER_WORKER = 4;
+    /**
+     * The product of a tree of a band above, its score is found by that band.
+     */
+    private static final long ABOVE = -1;
+    private static final int NONE_BELOW = Integer.MAX_VALUE;
+
+    private final Forest forest;
+    private final boolean parallel;
+
+    private ScenicScores(final Forest forest, final boolean parallel) {
+        this.forest = forest;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Scores the trees, in parallel for forests of at least {@link Forest#PARALLEL_THRESHOLD} trees.
+     */
+    public static ScenicScores of(final Forest forest) {
+        return of(forest, forest.rows() * forest.cols() >= Forest.PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * In parallel the forest is cut into a few {@link RowBands bands} of rows per worker. A first pass finds the last and the first row of
+     * every height in every column of a band, which is enough to rebuild the column stacks at the top of a band and to find the trees
+     * blocking the views down past its bottom, so the bands are then swept on their own. The summaries take {@code 2 * 10} {@code int}s per
+     * column and band. The scores are the same either way.
+     *
+     * @param parallel whether to sweep the bands on the common pool
+     */
+    public static ScenicScores of(final Forest forest, final boolean parallel) {
+        return new ScenicScores(forest, parallel);
+    }
+
+    /**
+     * Sweeps the forest keeping only the running maximum.
+     *
+     * @return the highest scenic score, 0 for an empty forest
+     */
+    public long max() {
+        return sweep(null);
+    }
+
+    /**
+     * Sweeps the forest into a new grid of the scores.
+     *
+     * @return the scores in row-major order
+     */
+    long[] scores() {
+        final long[] scores = new long[forest.rows() * forest.cols()];
+        sweep(scores);
+        return scores;
+    }
+
+    /**
+     * Keeps the {@code k} highest scores of the {@link #scores() grid} in a {@link TopK} and finds the trees with them in a second pass over
+     * the grid.
+     *
+     * @return the {@code k} trees with the highest scenic scores in descending order of the score, trees of equal scores in row-major order,
+     * fewer if the forest is smaller
+     */
+    public ScenicSpot[] top(final int k) {
+        final long[] scores = scores();
+        final TopK top = new TopK(k);
+        for (final long score : scores) {
+            top.offer(score);
+        }
+        if (top.size() == 0) {
+            return new ScenicSpot[0];
+        }
+        // all the trees scoring above the lowest kept score are among the best, the ones scoring exactly it only as long as there is room
+        final long threshold = top.min();
+        int atThreshold = 0;
+        for (final long score : top.toSortedArray()) {
+            if (score == threshold) {
+                atThreshold++;
+            }
+        }
+        final int cols = forest.cols();
+        final ScenicSpot[] spots = new ScenicSpot[top.size()];
+        int count = 0;
+        for (int i = 0; i < scores.length && count < spots.length; i++) {
+            if (scores[i] > threshold || scores[i] == threshold && atThreshold-- > 0) {
+                spots[count++] = new ScenicSpot(i / cols, i % cols, scores[i]);
+            }
+        }
+        // the sort is stable, so equal scores stay in row-major order
+        Arrays.sort(spots, Comparator.comparingLong(ScenicSpot::score)
+                                     .reversed());
+        return spots;
+    }
+
+    /**
+     * @param scores the grid to store the scores in, or {@code null} to only find the maximum
+     *
+     * @return the highest scenic score
+     */
+    private long sweep(final long[] scores) {
+        final int rows = forest.rows();
+        if (!parallel) {
+            return sweepBand(scores, 0, rows, null, null);
+        }
+        final int workers = ForkJoinPool.getCommonPoolParallelism() * BANDS_PER_WORKER;
+        final int bandRows = Math.max(RowBands.BAND_ROWS, (rows + workers - 1) / workers);
+        final int bands = RowBands.bandCount(rows, bandRows);
+        // last[band][col * HEIGHTS + height] is the last row of the band with a tree at least as tall in the column, first[band] the first one
+        final int[][] last = new int[bands][];
+        final int[][] first = new int[bands][];
+        RowBands.forEach(rows, bandRows, (fromRow, toRow) -> {
+            final int band = fromRow / bandRows;
+            last[band] = new int[forest.cols() * HEIGHTS];
+            first[band] = new int[last[band].length];
+            summarize(fromRow, toRow, last[band], first[band]);
+        });
+        // from here on last[band] covers all the bands down to the band and first[band] all the bands from it
+        for (int band = 1; band < bands; band++) {
+            for (int i = 0; i < last[band].length; i++) {
+                last[band][i] = Math.max(last[band][i], last[band - 1][i]);
+            }
+        }
+        for (int band = bands - 2; band >= 0; band--) {
+            for (int i = 0; i < first[band].length; i++) {
+                first[band][i] = Math.min(first[band][i], first[band + 1][i]);
+            }
+        }
+        return RowBands.reduce(rows, bandRows, (fromRow, toRow) -> {
+            final int band = fromRow / bandRows;
+            return sweepBand(scores, fromRow, toRow, band > 0 ? last[band - 1] : null, band + 1 < bands ? first[band + 1] : null);
+        }, 0, Math::max);
+    }
+
+    /**
+     * Finds the last and the first row of the band with a tree of at least every height in every column, -1 and {@link #NONE_BELOW} if
+     * there is none.
+     */
+    private void summarize(final int fromRow, final int toRow, final int[] last, final int[] first) {
+        final int cols = forest.cols();
+        Arrays.fill(last, -1);
+        Arrays.fill(first, NONE_BELOW);
+        for (int row = fromRow; row < toRow; row++) {
+            for (int col = 0; col < cols; col++) {
+                final int i = col * HEIGHTS + forest.height(row, col);
+                last[i] = row;
+                first[i] = Math.min(first[i], row);
+            }
+        }
+        for (int base = 0; base < last.length; base += HEIGHTS) {
+            for (int height = HEIGHTS - 2; height >= 0; height--) {
+                last[base + height] = Math.max(last[base + height], last[base + height + 1]);
+                first[base + height] = Math.min(first[base + height], first[base + height + 1]);
+            }
+        }
+    }
+
+    /**
+     * Scores the trees of the rows.
+     *
+     * @param scores the grid to store the scores in, or {@code null}
+     * @param above  the {@link #summarize(int, int, int[], int[]) last rows} of the heights above the band, {@code null} at the top
+     * @param below  the {@link #summarize(int, int, int[], int[]) first rows} of the heights below the band, {@code null} at the bottom
+     *
+     * @return the highest score of the rows
+     */
+    private long sweepBand(final long[] scores, final int fromRow, final int toRow, final int[] above, final int[] below) {
+        final int rows = forest.rows();
+        final int cols = forest.cols();
+        final int[] positions = new int[cols * STACK_DEPTH];
+        final int[] heights = new int[positions.length];
+        final long[] products = new long[positions.length];
+        final int[] depths = new int[cols];
+        if (above != null) {
+            // the stacks as they would be after sweeping the rows above, the last rows of the heights from the tallest one
+            for (int col = 0; col < cols; col++) {
+                final int base = col * STACK_DEPTH;
+                int depth = 0;
+                for (int height = Forest.MAX_HEIGHT; height >= 0; height--) {
+                    final int row = above[col * HEIGHTS + height];
+                    if (row >= 0 && (depth == 0 || positions[base + depth - 1] != row)) {
+                        positions[base + depth] = row;
+                        heights[base + depth] = height;
+                        products[base + depth] = ABOVE;
+                        depth++;
+                    }
+                }
+                depths[col] = depth;
+            }
+        }
+
+        final int[] left = new int[cols];
+        final int[] right = new int[cols];
+        long max = 0;
+        for (int row = fromRow; row < toRow; row++) {
+            distances(forest, row, left, right);
+            for (int col = 0; col < cols; col++) {
+                final int height = forest.height(row, col);
+                final int base = col * STACK_DEPTH;
+                int depth = depths[col];
+                // the lower trees above can see down as far as this one
+                while (depth > 0 && heights[base + depth - 1] < height) {
+                    depth--;
+                    max = Math.max(max, score(scores, cols, positions[base + depth], col, products[base + depth], row));
+                }
+                final int blocker = depth > 0 ? positions[base + depth - 1] : 0;
+                // an equally tall tree above also sees down as far as this one and can no longer block anything this one does not
+                if (depth > 0 && heights[base + depth - 1] == height) {
+                    depth--;
+                    max = Math.max(max, score(scores, cols, positions[base + depth], col, products[base + depth], row));
+                }
+                positions[base + depth] = row;
+                heights[base + depth] = height;
+                products[base + depth] = (long) left[col] * right[col] * (row - blocker);
+                depths[col] = depth + 1;
+            }
+        }
+
+        // the views down from the trees left on the stacks reach past the band
+        for (int col = 0; col < cols; col++) {
+            final int base = col * STACK_DEPTH;
+            for (int i = base; i < base + depths[col]; i++) {
+                final int blocker = below == null ? NONE_BELOW : below[col * HEIGHTS + heights[i]];
+                max = Math.max(max, score(scores, cols, positions[i], col, products[i], blocker == NONE_BELOW ? rows - 1 : blocker));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * @param product the product of the viewing distances to the left, to the right and up, or {@link #ABOVE}
+     * @param blocker the row of the tree blocking the view down, or the last row if the view is not blocked
+     *
+     * @return the scenic score of the tree, 0 for a tree of a band above
+     */
+    private static long score(final long[] scores, final int cols, final int row, final int col, final long product, final int blocker) {
+        if (product == ABOVE) {
+            return 0;
+        }
+        final long score = product * (blocker - row);
+        if (scores != null) {
+            scores[row * cols + col] = score;
+        }
+        return score;
+    }
+
+    /**
+     * Finds the viewing distances to the left and to the right of the trees in the row.
+     */
+    private static void distances(final Forest forest, final int row, final int[] left, final int[] right) {
+        final int cols = forest.cols();
+        final int[] positions = new int[STACK_DEPTH];
+        final int[] heights = new int[STACK_DEPTH];
+        final int[] depths = new int[1];
+        for (int col = 0; col < cols; col++) {
+            left[col] = col - view(positions, heights, depths, forest.height(row, col), col, 0);
+        }
+        depths[0] = 0;
+        for (int col = cols - 1; col >= 0; col--) {
+            right[col] = view(positions, heights, depths, forest.height(row, col), col, cols - 1) - col;
+        }
+    }
+
+    /**
+     * Finds the tree blocking the view from a tree and pushes the tree onto the stack.
+     *
+     * @param depths   the depth of the stack in its only element
+     * @param height   the height of the tree
+     * @param position the position of the tree along the direction
+     * @param edge     the position of the last tree before the edge
+     *
+     * @return the position of the blocking tree, or the edge if the view is not blocked
+     */
+    private static int view(final int[] positions, final int[] heights, final int[] depths, final int height, final int position,
+                            final int edge) {
+        int depth = depths[0];
+        while (depth > 0 && heights[depth - 1] < height) {
+            depth--;
+        }
+        final int blocker = depth > 0 ? positions[depth - 1] : edge;
+        // an equally tall tree behind this one can no longer block anything this one does not
+        if (depth > 0 && heights[depth - 1] == height) {
+            depth--;
+        }
+        positions[depth] = position;
+        heights[depth] = height;
+        depths[0] = depth + 1;
+        return blocker;
+    }
+
+    public record ScenicSpot(int row, int col, long score) {
+    }
+}
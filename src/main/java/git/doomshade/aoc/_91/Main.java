@@ -1,14 +1,14 @@
 package git.doomshade.aoc._91;
 
-import git.doomshade.aoc.shared.Util;
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.Solver;
+import git.doomshade.aoc.shared.parse.AsciiScanner;
+import git.doomshade.aoc.shared.parse.LineReader;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * <h2>--- Day 9: Rope Bridge ---</h2><p>This rope bridge creaks as you walk along it. You aren't sure how old it is, or whether it can even support your weight.</p>
@@ -258,28 +258,32 @@ import java.util.regex.Pattern;
  * <p>So, there are <code><em>13</em></code> positions the tail visited at least once.</p>
  * <p>Simulate your complete hypothetical series of motions. <em>How many positions does the tail of the rope visit at least once?</em></p>
  */
-public class Main implements Runnable {
-    private static final Pattern PATTERN = Pattern.compile("(\\w) (\\d+)");
+public class Main implements Solver<InputSource, Integer> {
+    @Override
+    public InputSource parse(final InputSource input) {
+        return input;
+    }
 
     @Override
-    public void run() {
-        try {
-            final List<String> input = Util.readStringInput(getClass(), "input.txt");
+    public boolean streaming() {
+        return true;
+    }
 
+    @Override
+    public Integer solve(final InputSource input) {
+        try (LineReader line = input.lines()) {
+            final AsciiScanner scanner = new AsciiScanner();
             final Set<Long> visited = new HashSet<>();
             int headX, headY, tailX, tailY;
             // we don't want negative values because we need 32 bits on the left and on the right of the Long value
             // and when we cast to long the significant bit shifts to the start :)
             headX = headY = tailX = tailY = Integer.MAX_VALUE / 2;
 
-            for (String s : input) {
-                final Matcher matcher = PATTERN.matcher(s);
-                if (!matcher.find()) {
-                    throw new IllegalStateException();
-                }
-                final char direction = matcher.group(1)
-                                              .charAt(0);
-                final int distanceToTravel = Integer.parseInt(matcher.group(2));
+            while (line.next()) {
+                scanner.reset(line);
+                final char direction = (char) scanner.read();
+                final int distanceToTravel = scanner.expect((byte) ' ')
+                                                    .readInt();
                 for (int i = 0; i < distanceToTravel; i++) {
                     switch (direction) {
                         case 'R' -> headX++;
@@ -298,7 +302,7 @@ public class Main implements Runnable {
                     visited.add(value);
                 }
             }
-            System.out.println(visited.size());
+            return visited.size();
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
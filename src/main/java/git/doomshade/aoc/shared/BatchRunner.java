@@ -0,0 +1,183 @@
+package git.doomshade.aoc.shared;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs several solvers in a single JVM on a bounded pool of threads and measures the parse and solve phase of each of them.
+ */
+public class BatchRunner {
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private final int threads;
+    private final int warmupIterations;
+
+    public BatchRunner(final int threads) {
+        this(threads, 0);
+    }
+
+    /**
+     * @param warmupIterations how many times each solver parses and solves its input before the measured run
+     */
+    public BatchRunner(final int threads, final int warmupIterations) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is required");
+        }
+        if (warmupIterations < 0) {
+            throw new IllegalArgumentException("Negative warm-up iterations");
+        }
+        this.threads = threads;
+        this.warmupIterations = warmupIterations;
+    }
+
+    /**
+     * Wall clock and CPU time of a phase, CPU time is {@code -1} if the JVM does not measure it. The CPU time is the one of the calling thread
+     * only, work the solver forks to other threads, e.g. to the common pool, is not included. The CPU time of the process cannot be used
+     * instead because the other days run at the same time.
+     */
+    public record Timing(long wallNanos, long cpuNanos) {
+        private static final Timing NONE = new Timing(0, -1);
+    }
+
+    /**
+     * @param streaming whether the solver is {@link Solver#streaming() streaming}, its parse timing is then meaningless
+     * @param answer    the answer of the solver, {@code null} on failure
+     * @param failure   the exception thrown by the solver, {@code null} on success
+     */
+    public record DayResult(int day, boolean streaming, Timing parse, Timing solve, Object answer, Throwable failure) {
+        public boolean failed() {
+            return failure != null;
+        }
+
+        public long wallNanos() {
+            return parse.wallNanos() + solve.wallNanos();
+        }
+
+        public long cpuNanos() {
+            return parse.cpuNanos() < 0 || solve.cpuNanos() < 0 ? -1 : parse.cpuNanos() + solve.cpuNanos();
+        }
+    }
+
+    /**
+     * Runs the given days and waits for all of them.
+     *
+     * @return the results in the order of the given days
+     */
+    public List<DayResult> run(final List<Integer> days) {
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, days.size()));
+        try {
+            final List<Future<DayResult>> futures = new ArrayList<>(days.size());
+            for (int day : days) {
+                futures.add(executor.submit(() -> runDay(day)));
+            }
+
+            final List<DayResult> results = new ArrayList<>(days.size());
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i)
+                                       .get());
+                } catch (ExecutionException e) {
+                    results.add(new DayResult(days.get(i), false, Timing.NONE, Timing.NONE, null, e.getCause()));
+                } catch (InterruptedException e) {
+                    Thread.currentThread()
+                          .interrupt();
+                    results.add(new DayResult(days.get(i), false, Timing.NONE, Timing.NONE, null, e));
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private DayResult runDay(final int day) {
+        try {
+            return runSolver(day, Solvers.create(day));
+        } catch (Throwable t) {
+            return new DayResult(day, false, Timing.NONE, Timing.NONE, null, t);
+        }
+    }
+
+    private <I, R> DayResult runSolver(final int day, final Solver<I, R> solver) {
+        final InputSource input = solver.defaultInput();
+        Timing parseTiming = Timing.NONE;
+        Timing solveTiming = Timing.NONE;
+        try {
+            for (int i = 0; i < warmupIterations; i++) {
+                solver.parseAndSolve(input);
+            }
+
+            long cpuStart = cpuTime();
+            long wallStart = System.nanoTime();
+            final I parsed = solver.parse(input);
+            parseTiming = timing(wallStart, cpuStart);
+
+            cpuStart = cpuTime();
+            wallStart = System.nanoTime();
+            final R answer = solver.solve(parsed);
+            solveTiming = timing(wallStart, cpuStart);
+            return new DayResult(day, solver.streaming(), parseTiming, solveTiming, answer, null);
+        } catch (Throwable t) {
+            return new DayResult(day, solver.streaming(), parseTiming, solveTiming, null, t);
+        }
+    }
+
+    private static Timing timing(final long wallStart, final long cpuStart) {
+        final long wallNanos = System.nanoTime() - wallStart;
+        final long cpuEnd = cpuTime();
+        return new Timing(wallNanos, cpuStart < 0 || cpuEnd < 0 ? -1 : cpuEnd - cpuStart);
+    }
+
+    private static long cpuTime() {
+        return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1;
+    }
+
+    public static void printReport(final List<DayResult> results, final PrintStream out) {
+        for (DayResult result : results) {
+            if (result.failed()) {
+                continue;
+            }
+            final String answer = String.valueOf(result.answer());
+            out.printf("Day %d:%s%s%n", result.day(), answer.contains("\n") ? System.lineSeparator() : " ", answer);
+        }
+
+        out.printf("%n%5s %12s %12s %12s %15s  %s%n", "Day", "Parse [ms]", "Solve [ms]", "Wall [ms]", "Caller CPU [ms]", "Status");
+        long totalWall = 0;
+        long totalCpu = 0;
+        int failures = 0;
+        boolean streaming = false;
+        for (DayResult result : results) {
+            streaming |= result.streaming();
+            totalWall += result.wallNanos();
+            totalCpu += Math.max(0, result.cpuNanos());
+            final String status;
+            if (result.failed()) {
+                failures++;
+                status = "FAILED: " + result.failure();
+            } else {
+                status = "OK";
+            }
+            out.printf("%5d %12s %12.3f %12.3f %15.3f  %s%n",
+                       result.day(),
+                       result.streaming() ? "streamed" : String.format("%.3f", result.parse()
+                                                                               .wallNanos() / 1e6),
+                       result.solve()
+                             .wallNanos() / 1e6,
+                       result.wallNanos() / 1e6,
+                       result.cpuNanos() / 1e6,
+                       status);
+        }
+        out.printf("%5s %12s %12s %12.3f %15.3f  %d/%d OK%n", "Sum", "", "", totalWall / 1e6, totalCpu / 1e6, results.size() - failures,
+                   results.size());
+        if (streaming) {
+            out.println("Streamed days read their input while solving, the reading is part of their solve time.");
+        }
+    }
+}
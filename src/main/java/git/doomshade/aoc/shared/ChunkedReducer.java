@@ -0,0 +1,142 @@
+package git.doomshade.aoc.shared;
+
+import git.doomshade.aoc.shared.parse.LineCursor;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/**
+ * Folds the lines of a buffer in parallel. The buffer is split in halves on the {@link ForkJoinPool#commonPool() common pool} until the chunks
+ * are small enough, every split is moved to the next {@link Boundary boundary} so that no record is cut in two. Each chunk is folded into a
+ * partial result on its own and the partial results are combined in the order of the chunks.
+ * <pre>{@code
+ * final ChunkedReducer<Integer> sum = new ChunkedReducer<>(Boundary.LINE, lines -> {...}, Integer::sum);
+ * final int result = sum.reduce(input.buffer());
+ * }</pre>
+ *
+ * @param <A> the partial result type
+ */
+public final class ChunkedReducer<A> {
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    private final Boundary boundary;
+    private final ChunkFolder<A> folder;
+    private final BinaryOperator<A> combiner;
+    private final int chunkSize;
+
+    public ChunkedReducer(final Boundary boundary, final ChunkFolder<A> folder, final BinaryOperator<A> combiner) {
+        this(boundary, folder, combiner, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param chunkSize the size in bytes under which a chunk is not split any further
+     */
+    public ChunkedReducer(final Boundary boundary, final ChunkFolder<A> folder, final BinaryOperator<A> combiner, final int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.boundary = boundary;
+        this.folder = folder;
+        this.combiner = combiner;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Folds the lines between the position and the limit of the buffer, the buffer itself is not modified.
+     */
+    public A reduce(final ByteBuffer buffer) {
+        final ChunkTask task = new ChunkTask(buffer, buffer.position(), buffer.limit());
+        return ForkJoinPool.commonPool()
+                           .invoke(task);
+    }
+
+    /**
+     * Folds a single chunk of the input.
+     *
+     * @param <A> the partial result type
+     */
+    @FunctionalInterface
+    public interface ChunkFolder<A> {
+        /**
+         * @param lines the lines of the chunk, the chunk starts at a boundary and ends at a boundary or the end of the input
+         */
+        A fold(LineCursor lines);
+    }
+
+    /**
+     * Where the input may be split.
+     */
+    public enum Boundary {
+        /**
+         * At the start of any line, for inputs where every line is a record.
+         */
+        LINE {
+            @Override
+            int align(final ByteBuffer buffer, final int index, final int limit) {
+                int i = index - 1;
+                while (i < limit && buffer.get(i) != '\n') {
+                    i++;
+                }
+                return Math.min(i + 1, limit);
+            }
+        },
+        /**
+         * After a blank line, for inputs where records are groups of lines separated by blank lines.
+         */
+        BLANK_LINE {
+            @Override
+            int align(final ByteBuffer buffer, final int index, final int limit) {
+                for (int i = index - 1; i < limit; i++) {
+                    if (buffer.get(i) != '\n') {
+                        continue;
+                    }
+                    int j = i + 1;
+                    if (j < limit && buffer.get(j) == '\r') {
+                        j++;
+                    }
+                    if (j < limit && buffer.get(j) == '\n') {
+                        return j + 1;
+                    }
+                }
+                return limit;
+            }
+        };
+
+        /**
+         * @param index an index greater than the start of the input
+         *
+         * @return the first split position at or after the index, or the limit if there is none
+         */
+        abstract int align(ByteBuffer buffer, int index, int limit);
+    }
+
+    private final class ChunkTask extends RecursiveTask<A> {
+        private static final long serialVersionUID = 1L;
+
+        private final ByteBuffer buffer;
+        private final int from;
+        private final int to;
+
+        private ChunkTask(final ByteBuffer buffer, final int from, final int to) {
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected A compute() {
+            if (to - from > chunkSize) {
+                final int middle = boundary.align(buffer, from + (to - from) / 2, to);
+                if (middle < to) {
+                    final ChunkTask left = new ChunkTask(buffer, from, middle);
+                    left.fork();
+                    final A right = new ChunkTask(buffer, middle, to).compute();
+                    return combiner.apply(left.join(), right);
+                }
+            }
+            return folder.fold(new LineCursor(buffer, from, to));
+        }
+    }
+}
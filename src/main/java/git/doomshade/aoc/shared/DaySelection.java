@@ -0,0 +1,60 @@
+package git.doomshade.aoc.shared;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Parses the day selection of the launcher. Days are identified as {@code <day><part>}, e.g. {@code 41} for the first part of day 4, which
+ * matches the {@code _41} package naming.
+ */
+public final class DaySelection {
+    private DaySelection() {
+    }
+
+    /**
+     * Single days and both ends of ranges have to be available days, a range selects all the available days between its ends.
+     *
+     * @throws IllegalArgumentException if a day is not a number or not available, or a range is empty
+     */
+    public static List<Integer> parse(final String selection) {
+        final List<Integer> available = Solvers.available();
+        if (selection.equalsIgnoreCase("all")) {
+            return available;
+        }
+
+        final TreeSet<Integer> selected = new TreeSet<>();
+        for (String token : selection.split(",")) {
+            token = token.trim();
+            final int dash = token.indexOf('-');
+            if (dash < 0) {
+                selected.add(parseDay(token, available));
+                continue;
+            }
+            final int from = parseDay(token.substring(0, dash), available);
+            final int to = parseDay(token.substring(dash + 1), available);
+            if (from > to) {
+                throw new IllegalArgumentException("Empty range " + token);
+            }
+            for (int id : available) {
+                if (id >= from && id <= to) {
+                    selected.add(id);
+                }
+            }
+        }
+        return new ArrayList<>(selected);
+    }
+
+    private static int parseDay(final String token, final List<Integer> available) {
+        final int id;
+        try {
+            id = Integer.parseInt(token.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a day: \"" + token.trim() + "\"");
+        }
+        if (!available.contains(id)) {
+            throw new IllegalArgumentException("Unknown day " + id);
+        }
+        return id;
+    }
+}
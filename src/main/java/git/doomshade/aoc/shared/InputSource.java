@@ -0,0 +1,101 @@
+package git.doomshade.aoc.shared;
+
+import git.doomshade.aoc.shared.parse.LineReader;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Where the solvers read their input from. The content is only read once one of the methods is called.
+ */
+public interface InputSource {
+    InputStream open() throws IOException;
+
+    default byte[] readAllBytes() throws IOException {
+        try (InputStream inputStream = open()) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    /**
+     * @return a read-only buffer with the whole input, memory-mapped where the input is a file
+     */
+    default ByteBuffer buffer() throws IOException {
+        return ByteBuffer.wrap(readAllBytes())
+                         .asReadOnlyBuffer();
+    }
+
+    /**
+     * @return the {@link #buffer() buffer} with the whole input already read into memory, so that reading the buffer costs no I/O
+     */
+    default ByteBuffer loadedBuffer() throws IOException {
+        final ByteBuffer buffer = buffer();
+        if (buffer instanceof MappedByteBuffer mapped) {
+            mapped.load();
+        }
+        return buffer;
+    }
+
+    /**
+     * @return a reader streaming the lines of the input through a fixed-size buffer
+     */
+    default LineReader lines() throws IOException {
+        return new LineReader(open());
+    }
+
+    default List<String> readLines() throws IOException {
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(open()))) {
+            return br.lines()
+                     .toList();
+        }
+    }
+
+    /**
+     * @return the resource next to the given class, or its replacement in the {@link Util#INPUT_DIR_PROPERTY} directory
+     */
+    static InputSource of(final Class<?> srcClass, final String fileName) {
+        return new InputSource() {
+            @Override
+            public InputStream open() throws IOException {
+                return Util.getInputStream(srcClass, fileName);
+            }
+
+            @Override
+            public ByteBuffer buffer() throws IOException {
+                return Util.mapInput(srcClass, fileName);
+            }
+        };
+    }
+
+    static InputSource of(final Path path) {
+        return new InputSource() {
+            @Override
+            public InputStream open() throws IOException {
+                return Files.newInputStream(path);
+            }
+
+            @Override
+            public ByteBuffer buffer() throws IOException {
+                return Util.map(path);
+            }
+        };
+    }
+
+    static InputSource of(final byte[] bytes) {
+        return new InputSource() {
+            @Override
+            public InputStream open() {
+                return new ByteArrayInputStream(bytes);
+            }
+
+            @Override
+            public byte[] readAllBytes() {
+                return bytes.clone();
+            }
+        };
+    }
+}
@@ -1,16 +1,85 @@
 package git.doomshade.aoc.shared;
 
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Launcher of the solvers. Accepts a day selection as the first argument: a single day ({@code 41}), a range ({@code 11-151}), a comma separated
+ * list of those ({@code 11,21-42,81}) or {@code all}. The optional second argument is the number of solvers run at once, defaulting to the number
+ * of available processors, and the optional third one the number of warm-up runs of each solver before it is measured. Invalid arguments, e.g.
+ * an unknown day or the end of a range that is not a day, are reported with the usage and exit status 2.
+ * <p>Arguments of the form {@code --name=value} may appear anywhere and set the {@code aoc.name} system property before any solver runs, e.g.
+ * {@code --trace} (same as {@code --trace=true}) or {@code --crates.engine=reverse_trace}.</p>
+ */
 public class Main {
-    private static final String BASE_PACKAGE = "git.doomshade.aoc._";
+    private static final String OPTION_PREFIX = "--";
+    private static final String PROPERTY_PREFIX = "aoc.";
+    private static final String USAGE = "Usage: [<days>|all] [<threads> [<warm-up runs>]] [--<name>=<value>...]";
+
+    public static void main(String[] args) {
+        args = applyOptions(args);
+        final String selection = args.length > 0 ? args[0] : "all";
+        final List<Integer> days;
+        final BatchRunner runner;
+        try {
+            days = DaySelection.parse(selection);
+            final int threads = args.length > 1 ? parseCount(args[1], "thread count") : Runtime.getRuntime()
+                                                                                            .availableProcessors();
+            final int warmupIterations = args.length > 2 ? parseCount(args[2], "warm-up count") : 0;
+            runner = new BatchRunner(threads, warmupIterations);
+        } catch (IllegalArgumentException e) {
+            usageError(e.getMessage());
+            return;
+        }
+        if (days.isEmpty()) {
+            usageError(String.format("No solver matches \"%s\"", selection));
+            return;
+        }
+
+        final List<BatchRunner.DayResult> results = runner.run(days);
+        BatchRunner.printReport(results, System.out);
+        if (results.stream()
+                   .anyMatch(BatchRunner.DayResult::failed)) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Prints the error with the usage and exits with status 2.
+     */
+    private static void usageError(final String message) {
+        System.err.println(message);
+        System.err.println(USAGE);
+        System.exit(2);
+    }
+
+    private static int parseCount(final String arg, final String name) {
+        try {
+            return Integer.parseInt(arg);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": \"" + arg + "\"");
+        }
+    }
 
-    public static void main(String[] args) throws ReflectiveOperationException {
-        final int aocDay = args.length > 0 ? Integer.parseInt(args[0]) : 1;
-        final Class<?> mainClass = Class.forName(BASE_PACKAGE.concat(String.valueOf(aocDay))
-                                                             .concat(".Main"));
-        final Object main = mainClass.getConstructor()
-                                     .newInstance();
-        if (main instanceof Runnable runnable) {
-            runnable.run();
+    /**
+     * Sets the system properties of the {@code --name=value} options.
+     *
+     * @return the remaining positional arguments
+     */
+    private static String[] applyOptions(final String[] args) {
+        final List<String> positional = new ArrayList<>();
+        for (final String arg : args) {
+            if (!arg.startsWith(OPTION_PREFIX)) {
+                positional.add(arg);
+                continue;
+            }
+            final int eq = arg.indexOf('=');
+            if (eq < 0) {
+                System.setProperty(PROPERTY_PREFIX + arg.substring(OPTION_PREFIX.length()), "true");
+            } else {
+                System.setProperty(PROPERTY_PREFIX + arg.substring(OPTION_PREFIX.length(), eq), arg.substring(eq + 1));
+            }
         }
+        return positional.toArray(String[]::new);
     }
 }
@@ -0,0 +1,62 @@
+package git.doomshade.aoc.shared;
+
+import java.io.IOException;
+
+/**
+ * A solver of a single puzzle part. Solving is split into two phases: {@link #parse(InputSource)} turns the raw input into a model and
+ * {@link #solve(Object)} computes the answer from it. {@code solve} must leave the parsed model untouched, so that a model parsed once can be solved
+ * any number of times (benchmarks and warm-up rely on it).
+ * <p>A {@link #streaming() streaming} solver reads its input in {@code solve} instead, its {@code parse} only passes the source along.</p>
+ * <p>Implementations are discovered with {@link java.util.ServiceLoader}, see {@link Solvers}.</p>
+ *
+ * @param <I> the parsed input
+ * @param <R> the answer
+ */
+public interface Solver<I, R> extends Runnable {
+    String DEFAULT_INPUT = "input.txt";
+
+    I parse(InputSource input) throws IOException;
+
+    R solve(I input);
+
+    default R parseAndSolve(final InputSource input) throws IOException {
+        return solve(parse(input));
+    }
+
+    /**
+     * Whether the solver streams its input while solving, so that the input is never held in memory as a whole. The {@link #parse(InputSource)}
+     * of such a solver passes the source along and costs nothing, reading the input is part of {@link #solve(Object)}. Its parse phase is not
+     * measured on its own.
+     */
+    default boolean streaming() {
+        return false;
+    }
+
+    /**
+     * @return the id of the puzzle part, e.g. {@code 41} for the first part of day 4
+     */
+    default int day() {
+        return dayOf(getClass());
+    }
+
+    default InputSource defaultInput() {
+        return InputSource.of(getClass(), DEFAULT_INPUT);
+    }
+
+    @Override
+    default void run() {
+        try {
+            System.out.println(parseAndSolve(defaultInput()));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Derives the id from the {@code git.doomshade.aoc._<id>} package of the solver class.
+     */
+    static int dayOf(final Class<?> solverClass) {
+        final String packageName = solverClass.getPackageName();
+        return Integer.parseInt(packageName.substring(packageName.lastIndexOf('_') + 1));
+    }
+}
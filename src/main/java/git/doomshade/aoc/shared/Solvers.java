@@ -0,0 +1,47 @@
+package git.doomshade.aoc.shared;
+
+import java.util.*;
+
+/**
+ * Registry of the solvers found by {@link ServiceLoader} in {@code META-INF/services/git.doomshade.aoc.shared.Solver}. The solver classes are
+ * only instantiated on {@link #create(int)}.
+ */
+public final class Solvers {
+    private static final SortedMap<Integer, ServiceLoader.Provider<? extends Solver<?, ?>>> PROVIDERS = new TreeMap<>();
+
+    static {
+        loader().stream()
+                .forEach(provider -> {
+                    final int day = Solver.dayOf(provider.type());
+                    if (PROVIDERS.put(day, provider) != null) {
+                        throw new IllegalStateException("Multiple solvers for day " + day);
+                    }
+                });
+    }
+
+    private Solvers() {
+    }
+
+    /**
+     * @return the loader of the solvers, the service type is the raw {@link Solver} class
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static ServiceLoader<Solver<?, ?>> loader() {
+        return (ServiceLoader) ServiceLoader.load(Solver.class);
+    }
+
+    /**
+     * @return the ids of all the registered solvers in ascending order
+     */
+    public static List<Integer> available() {
+        return List.copyOf(PROVIDERS.keySet());
+    }
+
+    public static Solver<?, ?> create(final int day) {
+        final ServiceLoader.Provider<? extends Solver<?, ?>> provider = PROVIDERS.get(day);
+        if (provider == null) {
+            throw new IllegalArgumentException("Unknown day " + day);
+        }
+        return provider.get();
+    }
+}
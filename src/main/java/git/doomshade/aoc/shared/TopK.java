@@ -0,0 +1,126 @@
+package git.doomshade.aoc.shared;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the {@code k} greatest values offered to it in a fixed-size min-heap, so the memory stays O(k) no matter how many values are offered
+ * and every offer is O(log k), or O(1) when the value is not among the greatest. Partial results, e.g. of chunks processed in parallel, are
+ * combined with {@link #merge(TopK)}.
+ * <p>Only the values are kept, there is no payload. To find what the greatest values belong to, e.g. the positions of the best scores, keep the
+ * values first and then, in a second pass over the data, take everything above {@link #min()} and as many values equal to it as were kept, see
+ * {@link git.doomshade.aoc._82.ScenicScores#top(int)}. Packing a payload into the low bits of the value would cut the range of the values.</p>
+ */
+public final class TopK {
+    private final long[] heap;
+    private int size;
+
+    /**
+     * @param k how many of the greatest values to keep
+     */
+    public TopK(final int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("K must be positive: " + k);
+        }
+        this.heap = new long[k];
+    }
+
+    public int k() {
+        return heap.length;
+    }
+
+    /**
+     * @return the number of values kept, less than {@link #k()} only until k values were offered
+     */
+    public int size() {
+        return size;
+    }
+
+    public void offer(final long value) {
+        if (size < heap.length) {
+            heap[size] = value;
+            siftUp(size++);
+        } else if (value > heap[0]) {
+            heap[0] = value;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Offers all values kept by the other accumulator to this one.
+     *
+     * @return this accumulator
+     */
+    public TopK merge(final TopK other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.heap[i]);
+        }
+        return this;
+    }
+
+    /**
+     * @return the smallest of the kept values
+     */
+    public long min() {
+        if (size == 0) {
+            throw new IllegalStateException("No values offered");
+        }
+        return heap[0];
+    }
+
+    public long sum() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += heap[i];
+        }
+        return sum;
+    }
+
+    /**
+     * @return the kept values in descending order
+     */
+    public long[] toSortedArray() {
+        final long[] values = Arrays.copyOf(heap, size);
+        Arrays.sort(values);
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            final long tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+        return values;
+    }
+
+    private void siftUp(int i) {
+        final long value = heap[i];
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (heap[parent] <= value) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = value;
+    }
+
+    private void siftDown(int i) {
+        final long value = heap[i];
+        final int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (value <= heap[child]) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = value;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toSortedArray());
+    }
+}
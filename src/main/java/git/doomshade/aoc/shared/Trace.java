@@ -0,0 +1,46 @@
+package git.doomshade.aoc.shared;
+
+import java.io.PrintStream;
+
+/**
+ * Opt-in diagnostics of the solvers, switched on with {@code -Daoc.trace=true}. The flag is a constant, so the JIT drops a guarded trace call
+ * completely when tracing is off. Guard every call that builds its message, otherwise the arguments are still evaluated:
+ * <pre>{@code
+ * if (Trace.ENABLED) {
+ *     Trace.printf("%s -> %d%n", line, score);
+ * }
+ * }</pre>
+ */
+public final class Trace {
+    public static final String PROPERTY = "aoc.trace";
+    public static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+
+    private static volatile PrintStream sink;
+
+    private Trace() {
+    }
+
+    /**
+     * @param sink where to write the diagnostics to, {@code null} for the current {@link System#out}
+     */
+    public static void setSink(final PrintStream sink) {
+        Trace.sink = sink;
+    }
+
+    public static PrintStream sink() {
+        final PrintStream sink = Trace.sink;
+        return sink != null ? sink : System.out;
+    }
+
+    public static void println(final Object message) {
+        if (ENABLED) {
+            sink().println(message);
+        }
+    }
+
+    public static void printf(final String format, final Object... args) {
+        if (ENABLED) {
+            sink().printf(format, args);
+        }
+    }
+}
@@ -1,12 +1,32 @@
 package git.doomshade.aoc.shared;
 
+import git.doomshade.aoc.shared.parse.LineReader;
+
 import java.io.*;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Util {
+    /**
+     * System property pointing to a directory that mirrors the resource layout (e.g. {@code <dir>/git/doomshade/aoc/_11/input.txt}). Files found there take
+     * precedence over the bundled resources, which lets benchmarks and batch jobs feed generated inputs to the solvers.
+     */
+    public static final String INPUT_DIR_PROPERTY = "aoc.input.dir";
+
+    /**
+     * Resources that are not plain files (e.g. packed in a jar) are extracted only once.
+     */
+    private static final Map<URL, Path> EXTRACTED_RESOURCES = new ConcurrentHashMap<>();
 
     public static byte[] readByteInput(final Class<?> srcClass, final String fileName) throws IOException {
         try (InputStream inputStream = getInputStream(srcClass, fileName)) {
@@ -22,10 +42,89 @@ public class Util {
         }
     }
 
-    private static InputStream getInputStream(final Class<?> srcClass, final String fileName) throws IOException {
-        final URL resource = srcClass.getResource(fileName);
-        System.out.println(resource);
-        return Objects.requireNonNull(resource)
-                      .openStream();
+    /**
+     * Streams the lines of the input, the memory used is bounded by the buffer of the reader and not by the size of the input.
+     */
+    public static LineReader lines(final Class<?> srcClass, final String fileName) throws IOException {
+        return new LineReader(getInputStream(srcClass, fileName));
+    }
+
+    /**
+     * Maps the input read-only into memory. Nothing is copied to the heap, the pages are loaded by the OS as the buffer is read. Resources that are not
+     * plain files are extracted to a temporary file first.
+     *
+     * @throws IOException if the input cannot be read or is larger than {@link Integer#MAX_VALUE} bytes
+     */
+    public static MappedByteBuffer mapInput(final Class<?> srcClass, final String fileName) throws IOException {
+        return map(getInputPath(srcClass, fileName));
+    }
+
+    public static MappedByteBuffer map(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(path + " is too large to be mapped into a single buffer (" + size + " bytes)");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    /**
+     * @return the path of the input in the override directory, or {@code null} if no override is configured
+     */
+    public static Path getInputOverride(final Class<?> srcClass, final String fileName) {
+        final String inputDir = System.getProperty(INPUT_DIR_PROPERTY);
+        if (inputDir == null) {
+            return null;
+        }
+        return Path.of(inputDir, srcClass.getPackageName().split("\\."))
+                   .resolve(fileName);
+    }
+
+    /**
+     * @return the file holding the input, the resource is extracted to a temporary file if it does not live on the file system
+     */
+    static Path getInputPath(final Class<?> srcClass, final String fileName) throws IOException {
+        final Path override = getInputOverride(srcClass, fileName);
+        if (override != null && Files.isRegularFile(override)) {
+            return override;
+        }
+        final URL resource = getResource(srcClass, fileName);
+        if (resource.getProtocol()
+                    .equals("file")) {
+            try {
+                return Path.of(resource.toURI());
+            } catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
+        }
+
+        try {
+            return EXTRACTED_RESOURCES.computeIfAbsent(resource, url -> {
+                try (InputStream inputStream = url.openStream()) {
+                    final Path tempFile = Files.createTempFile("aoc-", "-" + fileName);
+                    tempFile.toFile()
+                            .deleteOnExit();
+                    Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                    return tempFile;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    static InputStream getInputStream(final Class<?> srcClass, final String fileName) throws IOException {
+        final Path override = getInputOverride(srcClass, fileName);
+        if (override != null && Files.isRegularFile(override)) {
+            return Files.newInputStream(override);
+        }
+        return getResource(srcClass, fileName).openStream();
+    }
+
+    private static URL getResource(final Class<?> srcClass, final String fileName) {
+        return Objects.requireNonNull(srcClass.getResource(fileName), () -> "No input " + fileName + " next to " + srcClass.getName());
     }
 }
@@ -0,0 +1,192 @@
+package git.doomshade.aoc.shared.grid;
+
+import git.doomshade.aoc.shared.InputSource;
+import git.doomshade.aoc.shared.parse.LineCursor;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A {@link Grid} of bytes backed by one {@link ByteBuffer}, either on the heap or off it. Off-heap grids do not count towards the heap and are
+ * not moved by the garbage collector, which pays off for grids of hundreds of megabytes.
+ */
+public final class ByteGrid extends Grid {
+    /**
+     * Allocates the grids created by {@link #of(int, int, int)} and {@link #parse(InputSource, int, byte)} off the heap.
+     */
+    public static final String DIRECT_PROPERTY = "aoc.grid.direct";
+
+    private final ByteBuffer cells;
+
+    private ByteGrid(final int rows, final int cols, final int padding, final ByteBuffer cells) {
+        super(rows, cols, padding);
+        this.cells = cells;
+    }
+
+    public static ByteGrid heap(final int rows, final int cols, final int padding) {
+        return new ByteGrid(rows, cols, padding, ByteBuffer.allocate(capacity(rows, cols, padding)));
+    }
+
+    public static ByteGrid offHeap(final int rows, final int cols, final int padding) {
+        return new ByteGrid(rows, cols, padding, ByteBuffer.allocateDirect(capacity(rows, cols, padding)));
+    }
+
+    /**
+     * @return a grid of zeros, off the heap if {@link #DIRECT_PROPERTY} is set
+     */
+    public static ByteGrid of(final int rows, final int cols, final int padding) {
+        return Boolean.getBoolean(DIRECT_PROPERTY) ? offHeap(rows, cols, padding) : heap(rows, cols, padding);
+    }
+
+    public static ByteGrid parse(final InputSource input, final int padding, final byte sentinel) throws IOException {
+        return parse(input.buffer(), padding, sentinel);
+    }
+
+    /**
+     * Copies the lines between the position and the limit of the buffer into a grid, a line is a row and its bytes are the cells. Empty lines
+     * are skipped, all the other lines must be equally long.
+     *
+     * @param sentinel the value of the padding cells
+     */
+    public static ByteGrid parse(final ByteBuffer buffer, final int padding, final byte sentinel) {
+        final LineCursor line = new LineCursor(buffer);
+        int rows = 0;
+        int cols = -1;
+        while (line.next()) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            if (cols < 0) {
+                cols = line.length();
+            } else if (line.length() != cols) {
+                throw new IllegalStateException("Row " + rows + " has " + line.length() + " cells instead of " + cols);
+            }
+            rows++;
+        }
+
+        final ByteGrid grid = of(rows, Math.max(0, cols), padding);
+        final LineCursor copy = new LineCursor(buffer);
+        int row = 0;
+        while (copy.next()) {
+            if (!copy.isEmpty()) {
+                grid.cells.put(grid.index(row++, 0), buffer, copy.start(), cols);
+            }
+        }
+        grid.fillPadding(sentinel);
+        return grid;
+    }
+
+    public boolean isDirect() {
+        return cells.isDirect();
+    }
+
+    public byte get(final int index) {
+        return cells.get(index);
+    }
+
+    public byte get(final int row, final int col) {
+        return cells.get(index(row, col));
+    }
+
+    public void set(final int index, final byte value) {
+        cells.put(index, value);
+    }
+
+    public void set(final int row, final int col, final byte value) {
+        cells.put(index(row, col), value);
+    }
+
+    /**
+     * Sets all the padding cells to the value.
+     */
+    public void fillPadding(final byte value) {
+        if (padding == 0) {
+            return;
+        }
+        final int capacity = capacity();
+        final int innerStart = padding * stride;
+        final int innerEnd = capacity - padding * stride;
+        for (int i = 0; i < innerStart; i++) {
+            cells.put(i, value);
+        }
+        for (int rowStart = innerStart; rowStart < innerEnd; rowStart += stride) {
+            for (int i = 0; i < padding; i++) {
+                cells.put(rowStart + i, value);
+                cells.put(rowStart + stride - 1 - i, value);
+            }
+        }
+        for (int i = innerEnd; i < capacity; i++) {
+            cells.put(i, value);
+        }
+    }
+
+    /**
+     * Replaces every cell inside the grid with the result of the function applied to it, the padding is left as it is.
+     */
+    public void replaceAll(final IntUnaryOperator function) {
+        for (int row = 0; row < rows; row++) {
+            final int start = index(row, 0);
+            for (int i = start; i < start + cols; i++) {
+                cells.put(i, (byte) function.applyAsInt(cells.get(i)));
+            }
+        }
+    }
+
+    /**
+     * @return the index of the first cell inside the grid with the value in row-major order, or -1 if there is none
+     */
+    public int indexOf(final byte value) {
+        for (int row = 0; row < rows; row++) {
+            final int start = index(row, 0);
+            for (int i = start; i < start + cols; i++) {
+                if (cells.get(i) == value) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Copies the grid with the rows and the columns swapped, the padding of the copy is left as zeros. The copy is made in square tiles of
+     * {@link RowBands#BAND_ROWS} so the rows read and the rows written stay in the cache, the bands of the rows of the copy are written in
+     * parallel.
+     *
+     * @return a grid of the same padding and of {@code cols} rows of {@code rows} cells, {@code copy.get(col, row) == get(row, col)}
+     */
+    public ByteGrid transposed() {
+        final ByteGrid copy = isDirect() ? offHeap(cols, rows, padding) : heap(cols, rows, padding);
+        RowBands.forEach(cols, (fromCol, toCol) -> {
+            for (int tileRow = 0; tileRow < rows; tileRow += RowBands.BAND_ROWS) {
+                final int toRow = Math.min(tileRow + RowBands.BAND_ROWS, rows);
+                for (int col = fromCol; col < toCol; col++) {
+                    final int target = copy.index(col, 0);
+                    for (int row = tileRow; row < toRow; row++) {
+                        copy.cells.put(target + row, cells.get(index(row, col)));
+                    }
+                }
+            }
+        });
+        return copy;
+    }
+
+    /**
+     * Writes the cells inside the grid, a line per row.
+     *
+     * @param symbol maps a cell to the character written for it
+     */
+    public void print(final PrintStream out, final IntUnaryOperator symbol) {
+        final byte[] line = new byte[cols + 1];
+        line[cols] = '\n';
+        for (int row = 0; row < rows; row++) {
+            final int start = index(row, 0);
+            for (int col = 0; col < cols; col++) {
+                line[col] = (byte) symbol.applyAsInt(cells.get(start + col));
+            }
+            out.write(line, 0, line.length);
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,118 @@
+package git.doomshade.aoc.shared.grid;
+
+/**
+ * The shape of a row-major grid stored in one flat buffer. A cell is addressed by a single index, its neighbours are the index plus a fixed
+ * offset, so walking the grid needs no row and column arithmetic. The grid can be surrounded by {@link #padding()} cells on every side,
+ * filled with a sentinel value, which lets the neighbours of every cell be read without checking the bounds. Grids of the same shape share
+ * the indices, e.g. a grid of distances can be indexed by the cells of a height map.
+ * <pre>{@code
+ * for (int direction = 0; direction < Grid.DIRECTIONS; direction++) {
+ *     final int neighbour = grid.neighbour(index, direction);
+ *     ...
+ * }
+ * }</pre>
+ */
+public abstract class Grid {
+    public static final int UP = 0;
+    public static final int RIGHT = 1;
+    public static final int DOWN = 2;
+    public static final int LEFT = 3;
+    public static final int DIRECTIONS = 4;
+
+    protected final int rows;
+    protected final int cols;
+    protected final int padding;
+    protected final int stride;
+    private final int[] offsets;
+
+    protected Grid(final int rows, final int cols, final int padding) {
+        if (rows < 0 || cols < 0 || padding < 0) {
+            throw new IllegalArgumentException("Invalid grid " + rows + "x" + cols + " with padding " + padding);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.padding = padding;
+        this.stride = cols + 2 * padding;
+        this.offsets = new int[] {-stride, 1, stride, -1};
+    }
+
+    /**
+     * @return the number of cells in the buffer including the padding
+     */
+    protected static int capacity(final int rows, final int cols, final int padding) {
+        return Math.multiplyExact(rows + 2 * padding, cols + 2 * padding);
+    }
+
+    /**
+     * @return the number of rows without the padding
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * @return the number of columns without the padding
+     */
+    public int cols() {
+        return cols;
+    }
+
+    public int padding() {
+        return padding;
+    }
+
+    /**
+     * @return the difference of the indices of two vertically adjacent cells
+     */
+    public int stride() {
+        return stride;
+    }
+
+    /**
+     * @return the number of cells in the buffer including the padding
+     */
+    public int capacity() {
+        return capacity(rows, cols, padding);
+    }
+
+    /**
+     * @param row the row, negative or past the last row for the padding
+     * @param col the column, negative or past the last column for the padding
+     *
+     * @return the index of the cell in the buffer
+     */
+    public int index(final int row, final int col) {
+        return (row + padding) * stride + col + padding;
+    }
+
+    public int row(final int index) {
+        return index / stride - padding;
+    }
+
+    public int col(final int index) {
+        return index % stride - padding;
+    }
+
+    /**
+     * @return whether the cell is inside the grid, i.e. not in the padding
+     */
+    public boolean contains(final int row, final int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols;
+    }
+
+    /**
+     * @param direction one of {@link #UP}, {@link #RIGHT}, {@link #DOWN} and {@link #LEFT}
+     *
+     * @return the index of the neighbour of the cell, a padding cell or outside the buffer for cells at the edge
+     */
+    public int neighbour(final int index, final int direction) {
+        return index + offsets[direction];
+    }
+
+    /**
+     * @return whether the other grid has the same shape, so the grids share the indices
+     */
+    public boolean sameShape(final Grid other) {
+        return rows == other.rows && cols == other.cols && padding == other.padding;
+    }
+}
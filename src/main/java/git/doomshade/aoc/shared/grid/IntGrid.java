@@ -0,0 +1,72 @@
+package git.doomshade.aoc.shared.grid;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * A {@link Grid} of ints backed by one {@link IntBuffer}, either on the heap or off it, e.g. the distances of the cells of a {@link ByteGrid}
+ * of the same shape.
+ */
+public final class IntGrid extends Grid {
+    private final IntBuffer cells;
+
+    private IntGrid(final int rows, final int cols, final int padding, final IntBuffer cells) {
+        super(rows, cols, padding);
+        this.cells = cells;
+    }
+
+    public static IntGrid heap(final int rows, final int cols, final int padding) {
+        return new IntGrid(rows, cols, padding, IntBuffer.allocate(capacity(rows, cols, padding)));
+    }
+
+    public static IntGrid offHeap(final int rows, final int cols, final int padding) {
+        final ByteBuffer bytes = ByteBuffer.allocateDirect(Math.multiplyExact(capacity(rows, cols, padding), Integer.BYTES))
+                                           .order(ByteOrder.nativeOrder());
+        return new IntGrid(rows, cols, padding, bytes.asIntBuffer());
+    }
+
+    /**
+     * @return a grid of zeros, off the heap if {@link ByteGrid#DIRECT_PROPERTY} is set
+     */
+    public static IntGrid of(final int rows, final int cols, final int padding) {
+        return Boolean.getBoolean(ByteGrid.DIRECT_PROPERTY) ? offHeap(rows, cols, padding) : heap(rows, cols, padding);
+    }
+
+    /**
+     * @return a grid of zeros of the same shape as the other grid, so it shares its indices
+     */
+    public static IntGrid shaped(final Grid other) {
+        return of(other.rows, other.cols, other.padding);
+    }
+
+    public boolean isDirect() {
+        return cells.isDirect();
+    }
+
+    public int get(final int index) {
+        return cells.get(index);
+    }
+
+    public int get(final int row, final int col) {
+        return cells.get(index(row, col));
+    }
+
+    public void set(final int index, final int value) {
+        cells.put(index, value);
+    }
+
+    public void set(final int row, final int col, final int value) {
+        cells.put(index(row, col), value);
+    }
+
+    /**
+     * Sets all the cells including the padding to the value.
+     */
+    public void fill(final int value) {
+        final int capacity = capacity();
+        for (int i = 0; i < capacity; i++) {
+            cells.put(i, value);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package git.doomshade.aoc.shared.grid;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongBinaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Runs work on bands of consecutive rows of a grid in parallel on the {@link ForkJoinPool#commonPool() common pool}. A band is a block of
+ * whole rows, so as long as a task writes only to the rows of its band, no two tasks write to the same cache lines except at the edges of the
+ * bands.
+ */
+public final class RowBands {
+    /**
+     * The number of rows of a band, also the side of a tile for the work that has to read a grid and its transposition together.
+     */
+    public static final int BAND_ROWS = 64;
+
+    private RowBands() {
+    }
+
+    /**
+     * @param rows the number of rows to split into bands of {@link #BAND_ROWS}
+     */
+    public static void forEach(final int rows, final BandAction action) {
+        forEach(rows, BAND_ROWS, action);
+    }
+
+    /**
+     * @param rows     the number of rows to split into bands
+     * @param bandRows the number of rows of a band
+     */
+    public static void forEach(final int rows, final int bandRows, final BandAction action) {
+        IntStream.range(0, bandCount(rows, bandRows))
+                 .parallel()
+                 .forEach(band -> {
+                     final int from = band * bandRows;
+                     action.run(from, Math.min(from + bandRows, rows));
+                 });
+    }
+
+    /**
+     * @param rows     the number of rows to split into bands of {@link #BAND_ROWS}
+     * @param identity the result of no rows
+     * @param combiner combines the results of the bands, it has to be associative
+     */
+    public static long reduce(final int rows, final BandFunction function, final long identity, final LongBinaryOperator combiner) {
+        return reduce(rows, BAND_ROWS, function, identity, combiner);
+    }
+
+    /**
+     * @param rows     the number of rows to split into bands
+     * @param bandRows the number of rows of a band
+     * @param identity the result of no rows
+     * @param combiner combines the results of the bands, it has to be associative
+     */
+    public static long reduce(final int rows, final int bandRows, final BandFunction function, final long identity,
+                              final LongBinaryOperator combiner) {
+        return IntStream.range(0, bandCount(rows, bandRows))
+                        .parallel()
+                        .mapToLong(band -> {
+                            final int from = band * bandRows;
+                            return function.apply(from, Math.min(from + bandRows, rows));
+                        })
+                        .reduce(identity, combiner);
+    }
+
+    /**
+     * @return the number of bands of {@code bandRows} rows covering the rows, the last one may be shorter
+     */
+    public static int bandCount(final int rows, final int bandRows) {
+        return (rows + bandRows - 1) / bandRows;
+    }
+
+    @FunctionalInterface
+    public interface BandAction {
+        /**
+         * @param fromRow the first row of the band
+         * @param toRow   the row after the last row of the band
+         */
+        void run(int fromRow, int toRow);
+    }
+
+    @FunctionalInterface
+    public interface BandFunction {
+        /**
+         * @param fromRow the first row of the band
+         * @param toRow   the row after the last row of the band
+         */
+        long apply(int fromRow, int toRow);
+    }
+}
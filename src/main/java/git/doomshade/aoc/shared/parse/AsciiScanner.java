@@ -0,0 +1,193 @@
+package git.doomshade.aoc.shared.parse;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads numbers and fixed tokens straight from the bytes of a buffer, without creating strings, matchers or arrays. The scanner keeps its own
+ * position in the range it was {@link #reset(ByteRange) reset} to and is meant to be reused for every line.
+ * <pre>{@code
+ * // move 3 from 1 to 2
+ * scanner.reset(line)
+ *        .expect(MOVE);
+ * final int count = scanner.readInt();
+ * }</pre>
+ * Numbers are not checked for overflow, they have to fit into the type read.
+ */
+public final class AsciiScanner {
+    private ByteBuffer buffer;
+    private int position;
+    private int limit;
+
+    public AsciiScanner() {
+        this(ByteBuffer.allocate(0));
+    }
+
+    public AsciiScanner(final ByteBuffer buffer) {
+        reset(buffer, buffer.position(), buffer.limit());
+    }
+
+    /**
+     * @return the token as bytes to be passed to {@link #expect(byte[])} and {@link #tryMatch(byte[])}
+     */
+    public static byte[] token(final String token) {
+        return token.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    public AsciiScanner reset(final ByteRange range) {
+        return reset(range.buffer(), range.start(), range.end());
+    }
+
+    /**
+     * Restarts the scanner on the absolute range {@code [from, to)} of the buffer.
+     */
+    public AsciiScanner reset(final ByteBuffer buffer, final int from, final int to) {
+        this.buffer = buffer;
+        this.position = from;
+        this.limit = to;
+        return this;
+    }
+
+    public int position() {
+        return position;
+    }
+
+    public boolean hasRemaining() {
+        return position < limit;
+    }
+
+    /**
+     * @return the byte at the position without consuming it
+     */
+    public byte peek() {
+        checkRemaining();
+        return buffer.get(position);
+    }
+
+    public byte read() {
+        checkRemaining();
+        return buffer.get(position++);
+    }
+
+    public AsciiScanner skip(final int count) {
+        if (position + count > limit) {
+            throw new IllegalStateException("Cannot skip " + count + " bytes at " + position);
+        }
+        position += count;
+        return this;
+    }
+
+    /**
+     * Skips all bytes up to and including the first occurrence of the byte, or to the end if there is none.
+     */
+    public AsciiScanner skipPast(final byte b) {
+        while (position < limit && buffer.get(position++) != b) {
+            // skip
+        }
+        return this;
+    }
+
+    /**
+     * Consumes the byte, fails if the input does not continue with it.
+     */
+    public AsciiScanner expect(final byte b) {
+        if (position >= limit || buffer.get(position) != b) {
+            throw new IllegalStateException("Expected '" + (char) b + "' at " + position);
+        }
+        position++;
+        return this;
+    }
+
+    /**
+     * Consumes the token, fails if the input does not continue with it.
+     */
+    public AsciiScanner expect(final byte[] token) {
+        if (!tryMatch(token)) {
+            throw new IllegalStateException("Expected \"" + new String(token, StandardCharsets.US_ASCII) + "\" at " + position);
+        }
+        return this;
+    }
+
+    /**
+     * Consumes the token if the input continues with it.
+     *
+     * @return whether the token was consumed
+     */
+    public boolean tryMatch(final byte[] token) {
+        if (position + token.length > limit) {
+            return false;
+        }
+        for (int i = 0; i < token.length; i++) {
+            if (buffer.get(position + i) != token[i]) {
+                return false;
+            }
+        }
+        position += token.length;
+        return true;
+    }
+
+    /**
+     * Reads a decimal number with an optional leading {@code -} at the position.
+     */
+    public int readInt() {
+        return (int) readLong();
+    }
+
+    /**
+     * Reads a decimal number with an optional leading {@code -} at the position.
+     */
+    public long readLong() {
+        final boolean negative = position < limit && buffer.get(position) == '-';
+        if (negative) {
+            position++;
+        }
+        final int digitsStart = position;
+        long value = 0;
+        while (position < limit) {
+            final int digit = buffer.get(position) - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            value = value * 10 + digit;
+            position++;
+        }
+        if (position == digitsStart) {
+            throw new IllegalStateException("Expected a number at " + digitsStart);
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Skips to the next number and reads it. A {@code -} directly in front of a digit is taken as the sign, use {@link #readInt()} with
+     * {@link #expect(byte)} for dash separated numbers such as {@code 2-4}.
+     */
+    public int nextInt() {
+        return (int) nextLong();
+    }
+
+    /**
+     * @see #nextInt()
+     */
+    public long nextLong() {
+        while (position < limit) {
+            final byte b = buffer.get(position);
+            if (b >= '0' && b <= '9') {
+                break;
+            }
+            if (b == '-' && position + 1 < limit) {
+                final byte following = buffer.get(position + 1);
+                if (following >= '0' && following <= '9') {
+                    break;
+                }
+            }
+            position++;
+        }
+        return readLong();
+    }
+
+    private void checkRemaining() {
+        if (position >= limit) {
+            throw new IllegalStateException("Unexpected end of input at " + position);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package git.doomshade.aoc.shared.parse;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A window {@code [start, end)} into a byte buffer holding ASCII text. The window is a {@link CharSequence} view of the bytes, no characters are
+ * decoded or copied unless {@link #toString()} or {@link #subSequence(int, int)} is called.
+ */
+public abstract class ByteRange implements CharSequence {
+    protected ByteBuffer buffer;
+    protected int start;
+    protected int end;
+
+    protected ByteRange(final ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    /**
+     * @return the absolute index of the first byte in the buffer
+     */
+    public int start() {
+        return start;
+    }
+
+    /**
+     * @return the absolute index after the last byte in the buffer
+     */
+    public int end() {
+        return end;
+    }
+
+    public boolean isEmpty() {
+        return start == end;
+    }
+
+    /**
+     * @param index index relative to {@link #start()}
+     */
+    public byte byteAt(final int index) {
+        return buffer.get(start + index);
+    }
+
+    public boolean contentEquals(final byte[] bytes) {
+        if (bytes.length != length()) {
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            if (buffer.get(start + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean startsWith(final byte[] prefix) {
+        if (prefix.length > length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (buffer.get(start + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        return (char) (buffer.get(start + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(final int from, final int to) {
+        return toString(start + from, start + to);
+    }
+
+    @Override
+    public String toString() {
+        return toString(start, end);
+    }
+
+    private String toString(final int from, final int to) {
+        final byte[] bytes = new byte[to - from];
+        buffer.get(from, bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,92 @@
+package git.doomshade.aoc.shared.parse;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Iterates the fields of a range separated by a single delimiter byte, e.g. the words of a line. Consecutive delimiters produce empty fields the
+ * same way as {@link String#split(String)} in the middle of a line. The cursor is meant to be reused, {@link #reset(ByteRange)} points it to the next
+ * line.
+ * <pre>{@code
+ * // move 3 from 1 to 2
+ * fields.reset(line)
+ *       .expect(MOVE);
+ * final int count = scanner.reset(fields.nextField())
+ *                          .readInt();
+ * }</pre>
+ */
+public final class FieldCursor extends ByteRange {
+    private final byte delimiter;
+    private int limit;
+    private int next;
+
+    public FieldCursor(final ByteBuffer buffer, final byte delimiter) {
+        super(buffer);
+        this.delimiter = delimiter;
+        reset(0, 0);
+    }
+
+    public FieldCursor(final ByteRange range, final byte delimiter) {
+        this(range.buffer(), delimiter);
+        reset(range);
+    }
+
+    /**
+     * Restarts the iteration over the range, which may be in another buffer than the previous one, e.g. the current line of a
+     * {@link LineReader}.
+     */
+    public FieldCursor reset(final ByteRange range) {
+        this.buffer = range.buffer();
+        return reset(range.start(), range.end());
+    }
+
+    /**
+     * Restarts the iteration over the absolute range {@code [from, to)}.
+     */
+    public FieldCursor reset(final int from, final int to) {
+        this.next = from;
+        this.limit = to;
+        this.start = from;
+        this.end = from;
+        return this;
+    }
+
+    /**
+     * Moves the cursor to the next field.
+     *
+     * @return {@code false} if there are no more fields
+     */
+    public boolean next() {
+        if (next > limit) {
+            return false;
+        }
+        start = next;
+        int i = start;
+        while (i < limit && buffer.get(i) != delimiter) {
+            i++;
+        }
+        end = i;
+        next = i + 1;
+        return true;
+    }
+
+    /**
+     * Moves the cursor to the next field, fails if there is none.
+     */
+    public FieldCursor nextField() {
+        if (!next()) {
+            throw new IllegalStateException("Expected a field at " + next);
+        }
+        return this;
+    }
+
+    /**
+     * Moves the cursor to the next field, fails if it is not the word.
+     */
+    public FieldCursor expect(final byte[] word) {
+        if (!nextField().contentEquals(word)) {
+            throw new IllegalStateException("Expected \"" + new String(word, StandardCharsets.US_ASCII) + "\" at " + start);
+        }
+        return this;
+    }
+}
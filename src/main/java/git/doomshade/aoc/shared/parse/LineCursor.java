@@ -0,0 +1,70 @@
+package git.doomshade.aoc.shared.parse;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Iterates the lines of a buffer in place. The cursor itself is the current line, {@link #next()} moves it to the following one. Lines end with
+ * {@code \n} or {@code \r\n}, the terminator is not a part of the line and a terminator at the very end of the buffer does not start another line,
+ * the same as {@link java.io.BufferedReader#readLine()}.
+ * <pre>{@code
+ * final LineCursor line = new LineCursor(Util.mapInput(getClass(), "input.txt"));
+ * while (line.next()) {
+ *     ...
+ * }
+ * }</pre>
+ */
+public final class LineCursor extends ByteRange {
+    private final int limit;
+    private int next;
+
+    /**
+     * Iterates the lines between the position and the limit of the buffer.
+     */
+    public LineCursor(final ByteBuffer buffer) {
+        this(buffer, buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Iterates the lines between the absolute indices {@code from} and {@code to}, {@code from} has to be the start of a line.
+     */
+    public LineCursor(final ByteBuffer buffer, final int from, final int to) {
+        super(buffer);
+        this.limit = to;
+        this.next = from;
+        this.start = from;
+        this.end = from;
+    }
+
+    /**
+     * Moves the cursor to the next line.
+     *
+     * @return {@code false} if there are no more lines
+     */
+    public boolean next() {
+        if (next >= limit) {
+            return false;
+        }
+        start = next;
+        int i = start;
+        while (i < limit && buffer.get(i) != '\n') {
+            i++;
+        }
+        next = i + 1;
+        end = i > start && buffer.get(i - 1) == '\r' ? i - 1 : i;
+        return true;
+    }
+
+    /**
+     * @return the absolute index where the iterated lines end
+     */
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * @return the absolute index where the next line starts
+     */
+    public int nextStart() {
+        return next;
+    }
+}
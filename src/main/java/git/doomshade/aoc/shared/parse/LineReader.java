@@ -0,0 +1,97 @@
+package git.doomshade.aoc.shared.parse;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Streams the lines of an input through one fixed buffer, so the memory used is bounded by the longest line and not by the size of the input. Like
+ * {@link LineCursor}, the reader itself is the current line; the view is only valid until the next call of {@link #next()}, as the buffer is then
+ * refilled. Line terminators are handled the same as by {@link LineCursor}.
+ * <pre>{@code
+ * try (LineReader line = Util.lines(getClass(), "input.txt")) {
+ *     while (line.next()) {
+ *         ...
+ *     }
+ * }
+ * }</pre>
+ */
+public final class LineReader extends ByteRange implements Closeable {
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private final InputStream inputStream;
+    private byte[] bytes;
+    private int filled;
+    private int next;
+    private boolean eof;
+
+    public LineReader(final InputStream inputStream) {
+        this(inputStream, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param bufferSize the initial size of the buffer, it only grows if a single line does not fit in it
+     */
+    public LineReader(final InputStream inputStream, final int bufferSize) {
+        super(null);
+        this.inputStream = inputStream;
+        this.bytes = new byte[bufferSize];
+        this.buffer = ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * Moves the reader to the next line.
+     *
+     * @return {@code false} if there are no more lines
+     */
+    public boolean next() throws IOException {
+        int scanFrom = next;
+        while (true) {
+            for (int i = scanFrom; i < filled; i++) {
+                if (bytes[i] == '\n') {
+                    start = next;
+                    end = i > start && bytes[i - 1] == '\r' ? i - 1 : i;
+                    next = i + 1;
+                    return true;
+                }
+            }
+            scanFrom = filled;
+
+            if (eof) {
+                if (next >= filled) {
+                    return false;
+                }
+                start = next;
+                end = bytes[filled - 1] == '\r' ? filled - 1 : filled;
+                next = filled;
+                return true;
+            }
+
+            // move the unfinished line to the start of the buffer and read more
+            if (next > 0) {
+                System.arraycopy(bytes, next, bytes, 0, filled - next);
+                filled -= next;
+                scanFrom -= next;
+                next = 0;
+            }
+            if (filled == bytes.length) {
+                final byte[] grown = new byte[bytes.length * 2];
+                System.arraycopy(bytes, 0, grown, 0, filled);
+                bytes = grown;
+                buffer = ByteBuffer.wrap(bytes);
+            }
+            final int read = inputStream.read(bytes, filled, bytes.length - filled);
+            if (read < 0) {
+                eof = true;
+            } else {
+                filled += read;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        inputStream.close();
+    }
+}
@@ -0,0 +1,128 @@
+package git.doomshade.aoc.shared.parse;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Interns names read from byte ranges: every distinct name gets a dense id, starting from 0, and its bytes are copied only the first time it is
+ * seen. The ids can then be compared and hashed instead of the names. Lookups hash the range and probe an open-addressing table, no objects
+ * are allocated for a name that is already known.
+ */
+public final class NameTable {
+    private static final int INITIAL_CAPACITY = 64;
+
+    // the bytes of name id are pool[offsets[id], offsets[id + 1])
+    private byte[] pool = new byte[INITIAL_CAPACITY * 8];
+    private int[] offsets = new int[INITIAL_CAPACITY + 1];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private String[] strings = new String[INITIAL_CAPACITY];
+    // id + 1 of the name in the slot, 0 for an empty slot
+    private int[] slots = new int[INITIAL_CAPACITY * 2];
+    private int size;
+
+    public int intern(final ByteRange range) {
+        return intern(range.buffer(), range.start(), range.end());
+    }
+
+    /**
+     * @param from absolute index of the first byte of the name
+     * @param to   absolute index after the last byte of the name
+     *
+     * @return the id of the name
+     */
+    public int intern(final ByteBuffer buffer, final int from, final int to) {
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + buffer.get(i);
+        }
+        hash ^= hash >>> 16;
+
+        final int mask = slots.length - 1;
+        int slot = hash & mask;
+        while (slots[slot] != 0) {
+            final int id = slots[slot] - 1;
+            if (hashes[id] == hash && equals(id, buffer, from, to)) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        final int id = add(hash, buffer, from, to);
+        slots[slot] = id + 1;
+        if (2 * size > slots.length) {
+            rehash();
+        }
+        return id;
+    }
+
+    /**
+     * @return the number of distinct names
+     */
+    public int size() {
+        return size;
+    }
+
+    public int length(final int id) {
+        return offsets[id + 1] - offsets[id];
+    }
+
+    /**
+     * @return the name as a string, created only once for every name
+     */
+    public String name(final int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("Unknown name " + id);
+        }
+        String name = strings[id];
+        if (name == null) {
+            name = new String(pool, offsets[id], length(id), StandardCharsets.US_ASCII);
+            strings[id] = name;
+        }
+        return name;
+    }
+
+    private boolean equals(final int id, final ByteBuffer buffer, final int from, final int to) {
+        if (length(id) != to - from) {
+            return false;
+        }
+        final int offset = offsets[id];
+        for (int i = from; i < to; i++) {
+            if (pool[offset + i - from] != buffer.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int add(final int hash, final ByteBuffer buffer, final int from, final int to) {
+        if (size == hashes.length) {
+            offsets = Arrays.copyOf(offsets, 2 * size + 1);
+            hashes = Arrays.copyOf(hashes, 2 * size);
+            strings = Arrays.copyOf(strings, 2 * size);
+        }
+        final int length = to - from;
+        final int offset = offsets[size];
+        if (offset + length > pool.length) {
+            pool = Arrays.copyOf(pool, Math.max(pool.length * 2, offset + length));
+        }
+        for (int i = 0; i < length; i++) {
+            pool[offset + i] = buffer.get(from + i);
+        }
+        hashes[size] = hash;
+        offsets[size + 1] = offset + length;
+        return size++;
+    }
+
+    private void rehash() {
+        slots = new int[slots.length * 2];
+        final int mask = slots.length - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = hashes[id] & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = id + 1;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package git.doomshade.aoc._51;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RearrangementEngineTest {
+    private static final int PLANS = 500;
+
+    @Test
+    void reverseTraceMatchesSimulation() {
+        final Random random = new Random(5);
+        for (int i = 0; i < PLANS; i++) {
+            final RearrangementPlan plan = randomPlan(random);
+            for (final Crane crane : Crane.values()) {
+                assertEquals(RearrangementEngine.SIMULATION.topCrates(plan, crane), RearrangementEngine.REVERSE_TRACE.topCrates(plan, crane),
+                             "plan " + i + " with " + crane);
+            }
+        }
+    }
+
+    @Test
+    void selfMoveLeavesStacksUnchanged() {
+        final RearrangementPlan plan = new RearrangementPlan(new char[][] {{'A', 'B', 'C'}, {'D'}}, new int[] {2, 0, 0, 1, 1, 1});
+        for (final Crane crane : Crane.values()) {
+            assertEquals("CD", RearrangementEngine.SIMULATION.topCrates(plan, crane));
+            assertEquals("CD", RearrangementEngine.REVERSE_TRACE.topCrates(plan, crane));
+        }
+    }
+
+    /**
+     * @return a plan of up to 9 stacks whose moves never take more crates than the source stack holds, moves onto the same stack included
+     */
+    private static RearrangementPlan randomPlan(final Random random) {
+        final int stackCount = 1 + random.nextInt(9);
+        final char[][] stacks = new char[stackCount][];
+        final int[] heights = new int[stackCount];
+        for (int i = 0; i < stackCount; i++) {
+            stacks[i] = new char[random.nextInt(8)];
+            for (int j = 0; j < stacks[i].length; j++) {
+                stacks[i][j] = (char) ('A' + random.nextInt(26));
+            }
+            heights[i] = stacks[i].length;
+        }
+
+        final int moveCount = random.nextInt(40);
+        final int[] moves = new int[3 * moveCount];
+        int size = 0;
+        for (int i = 0; i < moveCount; i++) {
+            final int from = random.nextInt(stackCount);
+            final int to = random.nextInt(stackCount);
+            final int count = random.nextInt(heights[from] + 1);
+            heights[from] -= count;
+            heights[to] += count;
+            moves[size++] = count;
+            moves[size++] = from;
+            moves[size++] = to;
+        }
+        return new RearrangementPlan(stacks, moves);
+    }
+}
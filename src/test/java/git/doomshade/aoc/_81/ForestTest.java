@@ -0,0 +1,44 @@
+package git.doomshade.aoc._81;
+
+import git.doomshade.aoc.shared.InputSource;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ForestTest {
+    @Test
+    void parallelVisibleCountMatchesSequential() throws IOException {
+        final Random random = new Random(81);
+        // non-square and above the threshold, so the forest is tiled against its transposition in parallel by default
+        final Forest forest = forest(random, 1_500, 777, 10);
+        assertTrue(forest.rows() * forest.cols() >= Forest.PARALLEL_THRESHOLD);
+        assertEquals(forest.visibleCount(false), forest.visibleCount(true));
+        assertEquals(forest.visibleCount(false), forest.visibleCount());
+    }
+
+    @Test
+    void parallelVisibleCountMatchesSequentialOnSmallForests() throws IOException {
+        final Random random = new Random(18);
+        for (int i = 0; i < 50; i++) {
+            // few heights leave whole lines of trees hidden behind the edges
+            final Forest forest = forest(random, 1 + random.nextInt(200), 1 + random.nextInt(200), i % 2 == 0 ? 10 : 3);
+            assertEquals(forest.visibleCount(false), forest.visibleCount(true));
+        }
+    }
+
+    private static Forest forest(final Random random, final int rows, final int cols, final int heights) throws IOException {
+        final byte[] input = new byte[rows * (cols + 1)];
+        int i = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                input[i++] = (byte) ('0' + random.nextInt(heights));
+            }
+            input[i++] = '\n';
+        }
+        return Forest.parse(InputSource.of(input));
+    }
+}
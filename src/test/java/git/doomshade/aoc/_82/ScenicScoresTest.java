@@ -0,0 +1,96 @@
+package git.doomshade.aoc._82;
+
+import git.doomshade.aoc._81.Forest;
+import git.doomshade.aoc.shared.InputSource;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ScenicScoresTest {
+    @Test
+    void topHandlesScoresAboveIntRange() throws IOException {
+        // a single tall tree in the middle of 501 x 501 low trees sees 250 trees in every direction
+        final int size = 501;
+        final StringBuilder sb = new StringBuilder();
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                sb.append(row == size / 2 && col == size / 2 ? '9' : '0');
+            }
+            sb.append('\n');
+        }
+        final ScenicScores scores = ScenicScores.of(forest(sb.toString()));
+        assertEquals(3906250000L, scores.max());
+        assertArrayEquals(new ScenicScores.ScenicSpot[] {new ScenicScores.ScenicSpot(size / 2, size / 2, 3906250000L)}, scores.top(1));
+    }
+
+    @Test
+    void topMatchesSortedScores() throws IOException {
+        final Random random = new Random(8);
+        for (int i = 0; i < 100; i++) {
+            final int rows = 1 + random.nextInt(30);
+            final int cols = 1 + random.nextInt(30);
+            final ScenicScores scores = ScenicScores.of(forest(randomForest(random, rows, cols, 10)));
+            final long[] grid = scores.scores();
+            final long[] sorted = grid.clone();
+            Arrays.sort(sorted);
+
+            final ScenicScores.ScenicSpot[] top = scores.top(5);
+            assertEquals(Math.min(5, rows * cols), top.length);
+            for (int j = 0; j < top.length; j++) {
+                assertEquals(sorted[sorted.length - 1 - j], top[j].score());
+                assertEquals(top[j].score(), grid[top[j].row() * cols + top[j].col()]);
+            }
+        }
+    }
+
+    @Test
+    void parallelMatchesSequential() throws IOException {
+        final Random random = new Random(13);
+        for (int i = 0; i < 20; i++) {
+            // few heights make long views that cross the bands
+            final int heights = i % 2 == 0 ? 10 : 3;
+            final Forest forest = forest(randomForest(random, 1 + random.nextInt(300), 1 + random.nextInt(300), heights));
+            assertScoresEqual(ScenicScores.of(forest, false), ScenicScores.of(forest, true));
+        }
+    }
+
+    @Test
+    void parallelScoresViewsAcrossBands() throws IOException {
+        // three columns, the tall tree in the middle sees one tree to either side and 50000 trees up and down
+        final int rows = 100_001;
+        final StringBuilder sb = new StringBuilder();
+        for (int row = 0; row < rows; row++) {
+            sb.append(row == rows / 2 ? "090\n" : "000\n");
+        }
+        final Forest forest = forest(sb.toString());
+        final ScenicScores parallel = ScenicScores.of(forest, true);
+        assertEquals(50_000L * 50_000L, parallel.max());
+        assertScoresEqual(ScenicScores.of(forest, false), parallel);
+    }
+
+    private static void assertScoresEqual(final ScenicScores expected, final ScenicScores actual) {
+        assertEquals(expected.max(), actual.max());
+        assertArrayEquals(expected.scores(), actual.scores());
+    }
+
+    private static String randomForest(final Random random, final int rows, final int cols, final int heights) {
+        final StringBuilder sb = new StringBuilder();
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                sb.append((char) ('0' + random.nextInt(heights)));
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static Forest forest(final String input) throws IOException {
+        return Forest.parse(InputSource.of(input.getBytes(StandardCharsets.US_ASCII)));
+    }
+}